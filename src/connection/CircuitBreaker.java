@@ -0,0 +1,104 @@
+package connection;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.springframework.messaging.simp.stomp.StompSession;
+
+/**
+ * Circuit breaker of a session: after a number of Requests in a row without any reply the Server is
+ * considered unreachable and the new Requests fail right away, until a cooldown has passed and a
+ * single trial Request gets a reply again
+ */
+public class CircuitBreaker {
+	public static final String THRESHOLD_PROPERTY = "losttreasure.breaker.threshold";
+	public static final String COOLDOWN_PROPERTY = "losttreasure.breaker.cooldown";
+	
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+	
+	private static final Map<StompSession, CircuitBreaker> breakers = Collections.synchronizedMap(new WeakHashMap<StompSession, CircuitBreaker>());
+	
+	private final int threshold;
+	private final long cooldown;
+	
+	private State state;
+	private int failures;
+	private long opened_at;
+	private boolean trial;
+	
+	private CircuitBreaker(StompSession session) {
+		this.threshold = Integer.getInteger(THRESHOLD_PROPERTY, 5);
+		this.cooldown = Long.getLong(COOLDOWN_PROPERTY, 5000);
+		
+		this.state = State.CLOSED;
+		this.failures = 0;
+		this.opened_at = 0;
+		this.trial = false;
+	}
+	
+	public static CircuitBreaker getBreaker(StompSession session) {
+		synchronized(breakers) {
+			return breakers.computeIfAbsent(session, CircuitBreaker::new);
+		}
+	}
+	
+	/**
+	 * Check whether a Request can be sent
+	 * @return false while the breaker is open, or while the trial Request of a half open breaker is waiting
+	 */
+	public synchronized boolean allowRequest() {
+		if(this.state == State.OPEN) {
+			if(System.currentTimeMillis() - this.opened_at < this.cooldown) {
+				return false;
+			}
+			
+			this.state = State.HALF_OPEN;
+			this.trial = false;
+		}
+		
+		if(this.state == State.HALF_OPEN) {
+			if(this.trial) {
+				return false;
+			}
+			
+			this.trial = true;
+		}
+		
+		return true;
+	}
+	
+	public synchronized void recordSuccess() {
+		this.state = State.CLOSED;
+		this.failures = 0;
+		this.trial = false;
+	}
+	
+	/**
+	 * Record a Request that failed for a reason that does not tell if the Server is reachable, e.g. an encoding
+	 * error, so that the trial Request of a half open breaker is not waited for forever
+	 */
+	public synchronized void recordIgnored() {
+		this.trial = false;
+	}
+	
+	public synchronized void recordFailure() {
+		this.failures++;
+		
+		if(this.state == State.HALF_OPEN || this.failures >= this.threshold) {
+			if(this.state != State.OPEN) {
+				ConnectionLog.info("circuit open after " + this.failures + " failures");
+			}
+			
+			this.state = State.OPEN;
+			this.opened_at = System.currentTimeMillis();
+			this.trial = false;
+		}
+	}
+	
+	public synchronized State getState() {
+		return this.state;
+	}
+}
@@ -0,0 +1,149 @@
+package connection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.messaging.simp.stomp.StompSession;
+
+/**
+ * Queue of the fire-and-forget commands of a session, the commands issued within a short window
+ * are coalesced and then sent together
+ */
+public class CommandQueue {
+	public static final String BATCH_PROPERTY = "losttreasure.batch-commands";
+	
+	private static final Map<StompSession, CommandQueue> queues = Collections.synchronizedMap(new WeakHashMap<StompSession, CommandQueue>());
+	
+	private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "command-queue");
+		thread.setDaemon(true);
+		return thread;
+	});
+	
+	private final StompSession session;
+	private final LinkedHashMap<String, Request> commands;
+	private boolean scheduled;
+	
+	private static volatile long window = 20;
+	private static volatile boolean batching = Boolean.getBoolean(BATCH_PROPERTY);
+	
+	private CommandQueue(StompSession session) {
+		this.session = session;
+		this.commands = new LinkedHashMap<String, Request>();
+		this.scheduled = false;
+	}
+	
+	public static CommandQueue getQueue(StompSession session) {
+		synchronized(queues) {
+			return queues.computeIfAbsent(session, CommandQueue::new);
+		}
+	}
+	
+	/**
+	 * Send the pending commands of a session at once, a Request that expects a reply calls it first
+	 * so that the Server never receives it before the commands issued earlier
+	 * @param session Session of the commands
+	 */
+	public static void flushQueue(StompSession session) {
+		CommandQueue queue = queues.get(session);
+		
+		if(queue != null) {
+			queue.flush();
+		}
+	}
+	
+	/**
+	 * Set how long the commands are held before being sent
+	 * @param window Window in milliseconds
+	 */
+	public static void setWindow(long window) {
+		CommandQueue.window = window;
+	}
+	
+	/**
+	 * Set whether more than one command can be sent in a single /app/game/batch frame,
+	 * otherwise the coalesced commands are still sent one frame each
+	 * @param batching whether the Server accepts the batch frames
+	 */
+	public static void setBatching(boolean batching) {
+		CommandQueue.batching = batching;
+	}
+	
+	/**
+	 * Queue a command, replacing the pending command with the same key
+	 * @param key Key of the command
+	 * @param request Request to send
+	 */
+	public void submit(String key, Request request) {
+		this.submit(key, null, request);
+	}
+	
+	/**
+	 * Queue a command, if the pending commands contain its inverse both of them are dropped
+	 * @param key Key of the command
+	 * @param inverse_key Key of the command that cancels this one
+	 * @param request Request to send
+	 */
+	public synchronized void submit(String key, String inverse_key, Request request) {
+		if(inverse_key != null && this.commands.remove(inverse_key) != null) {
+			return;
+		}
+		
+		this.commands.put(key, request);
+		
+		if(!this.scheduled) {
+			this.scheduled = true;
+			scheduler.schedule(this::scheduledFlush, window, TimeUnit.MILLISECONDS);
+		}
+	}
+	
+	private synchronized void scheduledFlush() {
+		this.scheduled = false;
+		this.flush();
+	}
+	
+	/**
+	 * Send the pending commands, the commands are sent under the lock of the queue so that two flushes
+	 * (the scheduled one and the one of a Request) never reorder them
+	 */
+	public synchronized void flush() {
+		if(this.commands.isEmpty()) {
+			return;
+		}
+		
+		ArrayList<Request> requests = new ArrayList<Request>(this.commands.values());
+		this.commands.clear();
+		
+		if(requests.size() > 1 && batching) {
+			this.sendBatch(requests);
+		} else {
+			for(Request request : requests) {
+				request.sendMessage();
+			}
+		}
+	}
+	
+	private void sendBatch(ArrayList<Request> requests) {
+		Request batch = new Request(this.session, "/app/game/batch/" + this.session.getSessionId());
+		batch.addField("batch_size", Integer.toString(requests.size()));
+		
+		for(int index = 0; index < requests.size(); index++) {
+			Request request = requests.get(index);
+			String prefix = "command_" + index + "_";
+			
+			batch.addField(prefix + "path", request.getPath());
+			
+			for(Map.Entry<String, String> field : request.getFields().entrySet()) {
+				batch.addField(prefix + field.getKey(), field.getValue());
+			}
+		}
+		
+		batch.sendMessage();
+	}
+}
@@ -0,0 +1,173 @@
+package connection;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Log of the connection layer, the records are queued by the sending and inbound threads and
+ * formatted and printed by a single daemon thread, so that a slow console never delays a frame.
+ * The level is set by the losttreasure.log-level property and the frame records can be sampled
+ * with losttreasure.log-sample (one record every n frames)
+ */
+public final class ConnectionLog {
+	public static final String LEVEL_PROPERTY = "losttreasure.log-level";
+	public static final String SAMPLE_PROPERTY = "losttreasure.log-sample";
+	
+	public enum Level {
+		OFF, ERROR, INFO, DEBUG, TRACE
+	}
+	
+	private static final ArrayBlockingQueue<Record> records = new ArrayBlockingQueue<Record>(4096);
+	private static final AtomicLong frame_counter = new AtomicLong();
+	private static final AtomicLong dropped = new AtomicLong();
+	
+	private static volatile Level level = parseLevel(System.getProperty(LEVEL_PROPERTY));
+	private static volatile long sample = Math.max(1, Long.getLong(SAMPLE_PROPERTY, 1));
+	
+	static {
+		Thread writer = new Thread(ConnectionLog::write, "connection-log");
+		writer.setDaemon(true);
+		writer.start();
+		
+		Runtime.getRuntime().addShutdownHook(new Thread(ConnectionLog::drain, "connection-log-drain"));
+	}
+	
+	private ConnectionLog() {}
+	
+	public static void setLevel(Level level) {
+		ConnectionLog.level = level;
+	}
+	
+	public static Level getLevel() {
+		return ConnectionLog.level;
+	}
+	
+	/**
+	 * Set the sampling of the frame records
+	 * @param sample Keep one frame record every sample frames, 1 to keep all of them
+	 */
+	public static void setSample(long sample) {
+		ConnectionLog.sample = Math.max(1, sample);
+	}
+	
+	public static boolean isEnabled(Level level) {
+		return level != Level.OFF && level.compareTo(ConnectionLog.level) <= 0;
+	}
+	
+	/**
+	 * @return number of records dropped because the writer could not keep up
+	 */
+	public static long getDropped() {
+		return dropped.get();
+	}
+	
+	public static void error(String text, Throwable exception) {
+		log(Level.ERROR, text, null, -1, -1, exception);
+	}
+	
+	public static void info(String text) {
+		log(Level.INFO, text, null, -1, -1, null);
+	}
+	
+	/**
+	 * Log a frame at DEBUG level, its content is only kept at TRACE level and is formatted by the writer thread
+	 * @param event Name of the event, e.g. send or reply
+	 * @param destination Destination of the frame
+	 * @param size Size of the payload in bytes, -1 if unknown
+	 * @param latency Time since the Request in nanoseconds, -1 if unknown
+	 * @param content Content of the frame
+	 */
+	public static void frame(String event, String destination, int size, long latency, Object content) {
+		if(!isEnabled(Level.DEBUG) || frame_counter.getAndIncrement() % sample != 0) {
+			return;
+		}
+		
+		log(Level.DEBUG, event, destination, size, latency, isEnabled(Level.TRACE) ? content : null);
+	}
+	
+	private static void log(Level level, String event, String destination, int size, long latency, Object content) {
+		if(!isEnabled(level)) {
+			return;
+		}
+		
+		if(!records.offer(new Record(System.currentTimeMillis(), level, event, destination, size, latency, content))) {
+			dropped.incrementAndGet();
+		}
+	}
+	
+	private static void write() {
+		while(true) {
+			try {
+				print(records.take());
+			} catch (InterruptedException e) {
+				return;
+			}
+		}
+	}
+	
+	private static void drain() {
+		Record record;
+		while((record = records.poll()) != null) {
+			print(record);
+		}
+	}
+	
+	private static void print(Record record) {
+		StringBuilder line = new StringBuilder(128);
+		line.append("ts=").append(record.time);
+		line.append(" level=").append(record.level);
+		line.append(" event=").append(record.event);
+		
+		if(record.destination != null) {
+			line.append(" destination=").append(record.destination);
+		}
+		
+		if(record.size >= 0) {
+			line.append(" size=").append(record.size);
+		}
+		
+		if(record.latency >= 0) {
+			line.append(" latency_us=").append(record.latency / 1000);
+		}
+		
+		if(record.content instanceof Throwable) {
+			line.append(" error=").append(record.content);
+		} else if(record.content != null) {
+			line.append(" content=").append(FrameCodec.encode(record.content));
+		}
+		
+		System.out.println(line);
+	}
+	
+	private static Level parseLevel(String value) {
+		if(value == null) {
+			return Level.INFO;
+		}
+		
+		try {
+			return Level.valueOf(value.trim().toUpperCase());
+		} catch (IllegalArgumentException e) {
+			return Level.INFO;
+		}
+	}
+	
+	private static class Record {
+		private final long time;
+		private final Level level;
+		private final String event;
+		private final String destination;
+		private final int size;
+		private final long latency;
+		private final Object content;
+		
+		public Record(long time, Level level, String event, String destination, int size, long latency, Object content) {
+			this.time = time;
+			this.level = level;
+			this.event = event;
+			this.destination = destination;
+			this.size = size;
+			this.latency = latency;
+			this.content = content;
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package connection;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Registry of the metrics of every destination, shared by all the sessions of the JVM.
+ * The destinations are grouped without their last segment (the session id or the user token),
+ * e.g. /app/game/move and /response/game/update, and each one is registered as an MBean
+ * named losttreasure:type=Destination,name=...
+ */
+public final class ConnectionMetrics {
+	public static final String DOMAIN = "losttreasure";
+	
+	private static final ConcurrentHashMap<String, DestinationMetrics> destinations = new ConcurrentHashMap<String, DestinationMetrics>();
+	
+	private ConnectionMetrics() {}
+	
+	/**
+	 * Get the metrics of a destination, creating and registering them the first time
+	 * @param path Path of a frame, e.g. /app/game/move/ followed by the session id
+	 * @return metrics of the destination of the path
+	 */
+	public static DestinationMetrics of(String path) {
+		String destination = ConnectionMetrics.getDestination(path);
+		DestinationMetrics metrics = destinations.get(destination);
+		
+		if(metrics == null) {
+			metrics = destinations.computeIfAbsent(destination, ConnectionMetrics::register);
+		}
+		
+		return metrics;
+	}
+	
+	public static Collection<DestinationMetrics> getAll() {
+		return destinations.values();
+	}
+	
+	static String getDestination(String path) {
+		int last = path.lastIndexOf('/');
+		
+		if(last == path.length() - 1) {
+			last = path.lastIndexOf('/', last - 1);
+		}
+		
+		// Paths as /app/login keep all their segments, only the third one or later is dropped
+		if(last <= 0 || path.lastIndexOf('/', last - 1) <= 0) {
+			return path;
+		}
+		
+		return path.substring(0, last);
+	}
+	
+	private static DestinationMetrics register(String destination) {
+		DestinationMetrics metrics = new DestinationMetrics(destination);
+		
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName(DOMAIN + ":type=Destination,name=" + ObjectName.quote(destination));
+			
+			if(!server.isRegistered(name)) {
+				server.registerMBean(metrics, name);
+			}
+		} catch (JMException e) {
+			ConnectionLog.error("metrics " + destination, e);
+		}
+		
+		return metrics;
+	}
+}
@@ -25,26 +25,28 @@ public class ConnectionSessionHandler implements StompSessionHandler {
 
 	@Override
 	public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
-	    System.out.println("Connected to the Server!");
+	    ConnectionLog.info("connected " + session.getSessionId());
+	    
+	    WireFormat.negotiate(session, connectedHeaders);
 	}
 	
 	@Override
 	public void handleFrame(StompHeaders headers, Object payload) {
 		Message msg = (Message) payload;
 		
-	    System.out.println(msg);
+	    ConnectionLog.frame("session", null, -1, -1, msg);
 	}
 
 	@Override
 	public void handleException(StompSession session, StompCommand command, StompHeaders headers, byte[] payload,
 			Throwable exception) {
-		System.out.println(exception);
+		ConnectionLog.error("session " + command, exception);
 
 	}
 
 	@Override
 	public void handleTransportError(StompSession session, Throwable exception) {
-		System.out.println("error");
+		ConnectionLog.error("transport", exception);
 	}
 
 }
@@ -0,0 +1,75 @@
+package connection;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * Execution model of the controllers: the controller calls run on virtual threads when the JVM
+ * supports them (on a cached pool of daemon threads otherwise) and their results are applied to
+ * the interface on the Event Dispatch Thread, which never waits for the Server
+ */
+public final class ControllerExecutor {
+	public static final Executor EDT = SwingUtilities::invokeLater;
+	
+	private static final ExecutorService executor = ControllerExecutor.createExecutor();
+	
+	private static final ExecutorService ordered = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "controller-ordered");
+		thread.setDaemon(true);
+		return thread;
+	});
+	
+	private ControllerExecutor() {}
+	
+	public static Executor getExecutor() {
+		return executor;
+	}
+	
+	/**
+	 * Start a controller call away from the caller thread
+	 * @param call Function that sends the Request and returns the future of its result
+	 * @return Future completed with the result of the call
+	 */
+	public static <T> CompletableFuture<T> call(Supplier<CompletableFuture<T>> call) {
+		// The call starts after the ordered commands submitted before it, so it never overtakes them
+		return CompletableFuture.runAsync(() -> {}, ordered).thenApplyAsync(ignored -> call.get(), executor).thenCompose(future -> future);
+	}
+	
+	/**
+	 * Run a fire-and-forget controller call away from the caller thread
+	 * @param call Function that sends the Request
+	 */
+	public static void run(Runnable call) {
+		executor.execute(call);
+	}
+	
+	/**
+	 * Run a fire-and-forget controller call on a single thread, in the order of the calls, e.g. the
+	 * commands queued by the CommandQueue whose order matters to the Server
+	 * @param call Function that sends the Request
+	 */
+	public static void runOrdered(Runnable call) {
+		ordered.execute(call);
+	}
+	
+	private static ExecutorService createExecutor() {
+		try {
+			// Executors.newVirtualThreadPerTaskExecutor is looked up at runtime, the build targets older JVMs
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			AtomicLong thread_counter = new AtomicLong();
+			
+			return Executors.newCachedThreadPool(runnable -> {
+				Thread thread = new Thread(runnable, "controller-" + thread_counter.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+}
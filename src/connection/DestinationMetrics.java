@@ -0,0 +1,166 @@
+package connection;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of a destination, the counters are striped and the latency histogram uses power of two
+ * buckets of microseconds, so the recording threads never wait on each other
+ */
+public class DestinationMetrics implements DestinationMetricsMBean {
+	public static final int BUCKETS = 32;
+	
+	private final String destination;
+	private final LongAdder sent_frames;
+	private final LongAdder sent_bytes;
+	private final LongAdder received_frames;
+	private final LongAdder received_bytes;
+	private final LongAdder replies;
+	private final LongAdder timeouts;
+	private final LongAdder latency_total;
+	private final AtomicLongArray latency_histogram;
+	
+	DestinationMetrics(String destination) {
+		this.destination = destination;
+		this.sent_frames = new LongAdder();
+		this.sent_bytes = new LongAdder();
+		this.received_frames = new LongAdder();
+		this.received_bytes = new LongAdder();
+		this.replies = new LongAdder();
+		this.timeouts = new LongAdder();
+		this.latency_total = new LongAdder();
+		this.latency_histogram = new AtomicLongArray(BUCKETS);
+	}
+	
+	void recordSent(int size) {
+		this.sent_frames.increment();
+		
+		if(size > 0) {
+			this.sent_bytes.add(size);
+		}
+	}
+	
+	void recordReceived(int size) {
+		this.received_frames.increment();
+		
+		if(size > 0) {
+			this.received_bytes.add(size);
+		}
+	}
+	
+	void recordReply(long latency) {
+		long micros = latency / 1000;
+		
+		this.replies.increment();
+		this.latency_total.add(micros);
+		this.latency_histogram.incrementAndGet(Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros)));
+	}
+	
+	void recordTimeout() {
+		this.timeouts.increment();
+	}
+	
+	@Override
+	public String getDestination() {
+		return this.destination;
+	}
+	
+	@Override
+	public long getSentFrames() {
+		return this.sent_frames.sum();
+	}
+	
+	@Override
+	public long getSentBytes() {
+		return this.sent_bytes.sum();
+	}
+	
+	@Override
+	public long getReceivedFrames() {
+		return this.received_frames.sum();
+	}
+	
+	@Override
+	public long getReceivedBytes() {
+		return this.received_bytes.sum();
+	}
+	
+	@Override
+	public long getReplies() {
+		return this.replies.sum();
+	}
+	
+	@Override
+	public long getTimeouts() {
+		return this.timeouts.sum();
+	}
+	
+	@Override
+	public double getMeanLatencyMillis() {
+		long replies = this.replies.sum();
+		return (replies > 0) ? this.latency_total.sum() / 1000.0 / replies : 0;
+	}
+	
+	/**
+	 * Get an upper bound of a latency percentile, with the precision of the histogram buckets
+	 * @param percentile Percentile between 0 and 100
+	 * @return upper bound of the bucket that contains the percentile, in milliseconds
+	 */
+	@Override
+	public double getLatencyPercentileMillis(double percentile) {
+		long[] histogram = this.getLatencyHistogram();
+		long total = 0;
+		
+		for(long count : histogram) {
+			total += count;
+		}
+		
+		if(total == 0) {
+			return 0;
+		}
+		
+		long rank = (long) Math.ceil(total * percentile / 100.0);
+		long seen = 0;
+		
+		for(int i = 0; i < BUCKETS; i++) {
+			seen += histogram[i];
+			
+			if(seen >= rank) {
+				return (1L << i) / 1000.0;
+			}
+		}
+		
+		return (1L << (BUCKETS - 1)) / 1000.0;
+	}
+	
+	/**
+	 * Get a copy of the latency histogram, bucket i counts the replies received in less than 2^i microseconds
+	 * (and at least 2^(i-1) for i > 0)
+	 * @return counts of the replies of every bucket
+	 */
+	@Override
+	public long[] getLatencyHistogram() {
+		long[] counts = new long[BUCKETS];
+		
+		for(int i = 0; i < BUCKETS; i++) {
+			counts[i] = this.latency_histogram.get(i);
+		}
+		
+		return counts;
+	}
+	
+	@Override
+	public void reset() {
+		this.sent_frames.reset();
+		this.sent_bytes.reset();
+		this.received_frames.reset();
+		this.received_bytes.reset();
+		this.replies.reset();
+		this.timeouts.reset();
+		this.latency_total.reset();
+		
+		for(int i = 0; i < BUCKETS; i++) {
+			this.latency_histogram.set(i, 0);
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package connection;
+
+/**
+ * JMX view of the metrics of a destination
+ */
+public interface DestinationMetricsMBean {
+	String getDestination();
+	
+	long getSentFrames();
+	
+	long getSentBytes();
+	
+	long getReceivedFrames();
+	
+	long getReceivedBytes();
+	
+	long getReplies();
+	
+	long getTimeouts();
+	
+	double getMeanLatencyMillis();
+	
+	double getLatencyPercentileMillis(double percentile);
+	
+	long[] getLatencyHistogram();
+	
+	void reset();
+}
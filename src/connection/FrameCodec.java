@@ -0,0 +1,127 @@
+package connection;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import connection.messages.ChatMessage;
+import connection.messages.DiceMessage;
+import connection.messages.GameListMessage;
+import connection.messages.GameReply;
+import connection.messages.LeaderboardMessage;
+import connection.messages.LoginReply;
+import connection.messages.MoveMessage;
+import connection.messages.MoveReply;
+import connection.messages.Reply;
+import connection.messages.TurnMessage;
+import connection.messages.UpdateMessage;
+import connection.messages.UsernameReply;
+
+/**
+ * Shared codec used to bind the inbound frames to their typed messages
+ */
+public final class FrameCodec {
+	private static final ObjectMapper mapper = FrameCodec.configure(new ObjectMapper());
+	private static final ObjectMapper smileMapper = FrameCodec.configure(new ObjectMapper(new SmileFactory()));
+	
+	private static final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<Class<?>, ObjectReader>();
+	private static final Map<Class<?>, ObjectReader> smileReaders = new ConcurrentHashMap<Class<?>, ObjectReader>();
+	
+	static {
+		Class<?>[] message_types = {
+			GameListMessage.class, Reply.class, LoginReply.class, UsernameReply.class, GameReply.class, MoveReply.class,
+			LeaderboardMessage.class, UpdateMessage.class, TurnMessage.class, DiceMessage.class, MoveMessage.class, ChatMessage.class
+		};
+		
+		// Creating the readers up front builds their deserializers before the first frame arrives
+		for(Class<?> message_type : message_types) {
+			FrameCodec.getReader(message_type, WireFormat.JSON);
+			FrameCodec.getReader(message_type, WireFormat.SMILE);
+		}
+	}
+	
+	private FrameCodec() { }
+	
+	private static ObjectMapper configure(ObjectMapper mapper) {
+		return mapper
+			.setVisibility(PropertyAccessor.ALL, Visibility.NONE)
+			.setVisibility(PropertyAccessor.FIELD, Visibility.ANY)
+			.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+			.configure(DeserializationFeature.FAIL_ON_INVALID_SUBTYPE, false);
+	}
+	
+	private static ObjectReader getReader(Class<?> type, WireFormat format) {
+		if(format == WireFormat.SMILE) {
+			return smileReaders.computeIfAbsent(type, smileMapper::readerFor);
+		}
+		
+		return readers.computeIfAbsent(type, mapper::readerFor);
+	}
+	
+	/**
+	 * Bind a frame to its message type
+	 * @param payload JSON payload of the frame
+	 * @param type Class of the message
+	 * @return the decoded message
+	 */
+	public static <T> T decode(String payload, Class<T> type) throws IOException {
+		return FrameCodec.getReader(type, WireFormat.JSON).readValue(payload);
+	}
+	
+	/**
+	 * Bind a frame to its message type
+	 * @param payload Raw payload of the frame
+	 * @param format Format used to encode the payload
+	 * @param type Class of the message
+	 * @return the decoded message
+	 */
+	public static <T> T decode(byte[] payload, WireFormat format, Class<T> type) throws IOException {
+		return FrameCodec.getReader(type, format).readValue(payload);
+	}
+	
+	/**
+	 * Encode the fields of an outbound frame
+	 * @param fields Fields of the frame
+	 * @param format Format to use
+	 * @return the encoded payload
+	 */
+	public static byte[] encode(Map<String, ?> fields, WireFormat format) throws JsonProcessingException {
+		if(format == WireFormat.SMILE) {
+			return smileMapper.writeValueAsBytes(fields);
+		}
+		
+		return mapper.writeValueAsBytes(fields);
+	}
+	
+	/**
+	 * Retrieve the request_id carried by a decoded frame
+	 * @param message Decoded frame
+	 * @return request_id of the frame, or null when the frame has none
+	 */
+	public static String getRequestId(Object message) {
+		if(message instanceof Reply) {
+			return ((Reply) message).getRequestId();
+		} else if(message instanceof Map) {
+			Object request_id = ((Map<?, ?>) message).get("request_id");
+			return (request_id != null) ? request_id.toString() : null;
+		}
+		
+		return null;
+	}
+	
+	public static String encode(Object message) {
+		try {
+			return mapper.writeValueAsString(message);
+		} catch (JsonProcessingException e) {
+			return String.valueOf(message);
+		}
+	}
+}
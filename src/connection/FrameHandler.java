@@ -0,0 +1,10 @@
+package connection;
+
+/**
+ * Handler applied to every decoded frame of a destination
+ * @param <T> Type of the decoded frame
+ */
+@FunctionalInterface
+public interface FrameHandler<T> {
+	void handle(T message);
+}
@@ -0,0 +1,93 @@
+package connection;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Chain applied to the frames of a destination: decode, validate and then apply the handlers
+ * @param <T> Type of the decoded frame
+ */
+public class FramePipeline<T> {
+	private final Class<T> type;
+	private final List<Predicate<? super T>> validators;
+	private final List<FrameHandler<? super T>> handlers;
+	private final HashMap<Class<?>, FrameHandler<Object>> typeHandlers;
+	
+	public FramePipeline(Class<T> type) {
+		this.type = type;
+		this.validators = new ArrayList<Predicate<? super T>>();
+		this.handlers = new ArrayList<FrameHandler<? super T>>();
+		this.typeHandlers = new HashMap<Class<?>, FrameHandler<Object>>();
+	}
+	
+	public Class<T> getType() {
+		return this.type;
+	}
+	
+	/**
+	 * Add a check that every frame has to pass before the handlers are applied
+	 * @param validator Check on the decoded frame
+	 * @return this pipeline
+	 */
+	public FramePipeline<T> validate(Predicate<? super T> validator) {
+		this.validators.add(validator);
+		return this;
+	}
+	
+	/**
+	 * Add a handler applied to every valid frame
+	 * @param handler Handler to apply
+	 * @return this pipeline
+	 */
+	public FramePipeline<T> apply(FrameHandler<? super T> handler) {
+		this.handlers.add(handler);
+		return this;
+	}
+	
+	/**
+	 * Add a handler applied only to the valid frames of a certain subtype
+	 * @param subtype Exact class of the frames to handle
+	 * @param handler Handler to apply
+	 * @return this pipeline
+	 */
+	@SuppressWarnings("unchecked")
+	public <S extends T> FramePipeline<T> apply(Class<S> subtype, FrameHandler<? super S> handler) {
+		this.typeHandlers.put(subtype, (FrameHandler<Object>) handler);
+		return this;
+	}
+	
+	public T decode(byte[] payload, WireFormat format) throws IOException {
+		return FrameCodec.decode(payload, format, this.type);
+	}
+	
+	public boolean isValid(T message) {
+		for(Predicate<? super T> validator : this.validators) {
+			if(!validator.test(message)) {
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	public void process(Object frame) {
+		T message = this.type.cast(frame);
+		
+		if(!this.isValid(message)) {
+			return;
+		}
+		
+		for(FrameHandler<? super T> handler : this.handlers) {
+			handler.handle(message);
+		}
+		
+		FrameHandler<Object> typeHandler = this.typeHandlers.get(message.getClass());
+		
+		if(typeHandler != null) {
+			typeHandler.handle(message);
+		}
+	}
+}
@@ -0,0 +1,218 @@
+package connection;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Bounded queue between the STOMP inbound thread and the code that applies the frames: the frames
+ * are applied in order by a single consumer thread, so a slow handler never stops the other frames
+ * from being received. The producers never take a lock, when the queue is full the overflow policy
+ * either makes them wait for a free slot or drops a frame
+ */
+public class InboundQueue<T> implements InboundQueueMBean {
+	public static final String CAPACITY_PROPERTY = "losttreasure.event-queue.capacity";
+	public static final String OVERFLOW_PROPERTY = "losttreasure.event-queue.overflow";
+	
+	public enum OverflowPolicy {
+		/** The producer waits until the consumer frees a slot */
+		BLOCK,
+		/** The oldest queued frame is dropped */
+		DROP_OLDEST,
+		/** The new frame is dropped */
+		DROP_NEWEST
+	}
+	
+	private final String name;
+	private final int capacity;
+	private final OverflowPolicy policy;
+	private final FrameHandler<? super T> handler;
+	private final ConcurrentLinkedQueue<T> queue;
+	private final AtomicInteger depth;
+	private final AtomicInteger max_depth;
+	private final LongAdder applied;
+	private final LongAdder dropped;
+	private final LongAdder blocked;
+	private final Thread consumer;
+	private ObjectName objectName;
+	
+	private volatile boolean closed;
+	
+	/**
+	 * Creates a new instance of InboundQueue with the capacity and the overflow policy set by the
+	 * losttreasure.event-queue.capacity and losttreasure.event-queue.overflow properties (1024 and BLOCK by default)
+	 * @param name Name of the queue and of its consumer thread
+	 * @param handler Handler applied to every frame by the consumer thread
+	 */
+	public InboundQueue(String name, FrameHandler<? super T> handler) {
+		this(name, Integer.getInteger(CAPACITY_PROPERTY, 1024), OverflowPolicy.valueOf(System.getProperty(OVERFLOW_PROPERTY, "BLOCK").toUpperCase()), handler);
+	}
+	
+	public InboundQueue(String name, int capacity, OverflowPolicy policy, FrameHandler<? super T> handler) {
+		this.name = name;
+		this.capacity = capacity;
+		this.policy = policy;
+		this.handler = handler;
+		this.queue = new ConcurrentLinkedQueue<T>();
+		this.depth = new AtomicInteger();
+		this.max_depth = new AtomicInteger();
+		this.applied = new LongAdder();
+		this.dropped = new LongAdder();
+		this.blocked = new LongAdder();
+		this.closed = false;
+		
+		this.consumer = new Thread(this::consume, name);
+		this.consumer.setDaemon(true);
+		this.consumer.start();
+		
+		this.register();
+	}
+	
+	/**
+	 * Queue a frame
+	 * @param frame Frame to apply
+	 * @return false if the frame has been dropped
+	 */
+	public boolean offer(T frame) {
+		boolean waiting = false;
+		
+		while(true) {
+			if(this.closed) {
+				return false;
+			}
+			
+			int current = this.depth.get();
+			
+			if(current < this.capacity) {
+				if(this.depth.compareAndSet(current, current + 1)) {
+					break;
+				}
+				
+				continue;
+			}
+			
+			if(this.policy == OverflowPolicy.DROP_NEWEST) {
+				this.dropped.increment();
+				return false;
+			} else if(this.policy == OverflowPolicy.DROP_OLDEST) {
+				if(this.queue.poll() != null) {
+					this.depth.decrementAndGet();
+					this.dropped.increment();
+				}
+			} else {
+				if(!waiting) {
+					waiting = true;
+					this.blocked.increment();
+				}
+				
+				LockSupport.parkNanos(100_000);
+			}
+		}
+		
+		this.queue.add(frame);
+		this.max_depth.accumulateAndGet(this.depth.get(), Math::max);
+		
+		LockSupport.unpark(this.consumer);
+		return true;
+	}
+	
+	/**
+	 * Stop the consumer thread, the frames still in the queue are discarded
+	 */
+	public void close() {
+		this.closed = true;
+		LockSupport.unpark(this.consumer);
+		
+		if(this.objectName != null) {
+			try {
+				ManagementFactory.getPlatformMBeanServer().unregisterMBean(this.objectName);
+			} catch (JMException e) {
+				ConnectionLog.error("queue " + this.name, e);
+			}
+		}
+	}
+	
+	private void consume() {
+		while(!this.closed) {
+			T frame = this.queue.poll();
+			
+			if(frame == null) {
+				LockSupport.park(this);
+				continue;
+			}
+			
+			this.depth.decrementAndGet();
+			
+			try {
+				this.handler.handle(frame);
+			} catch (RuntimeException e) {
+				ConnectionLog.error("queue " + this.name, e);
+			}
+			
+			this.applied.increment();
+		}
+	}
+	
+	private void register() {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName(ConnectionMetrics.DOMAIN + ":type=InboundQueue,name=" + ObjectName.quote(this.name));
+			
+			if(!server.isRegistered(name)) {
+				server.registerMBean(this, name);
+				this.objectName = name;
+			}
+		} catch (JMException e) {
+			ConnectionLog.error("queue " + this.name, e);
+		}
+	}
+	
+	@Override
+	public String getName() {
+		return this.name;
+	}
+	
+	@Override
+	public int getCapacity() {
+		return this.capacity;
+	}
+	
+	@Override
+	public String getOverflowPolicy() {
+		return this.policy.name();
+	}
+	
+	@Override
+	public int getDepth() {
+		return this.depth.get();
+	}
+	
+	@Override
+	public int getMaxDepth() {
+		return this.max_depth.get();
+	}
+	
+	@Override
+	public long getApplied() {
+		return this.applied.sum();
+	}
+	
+	@Override
+	public long getDropped() {
+		return this.dropped.sum();
+	}
+	
+	/**
+	 * @return number of frames whose producer had to wait for a free slot
+	 */
+	@Override
+	public long getBlocked() {
+		return this.blocked.sum();
+	}
+}
@@ -0,0 +1,22 @@
+package connection;
+
+/**
+ * JMX view of an InboundQueue
+ */
+public interface InboundQueueMBean {
+	String getName();
+	
+	int getCapacity();
+	
+	String getOverflowPolicy();
+	
+	int getDepth();
+	
+	int getMaxDepth();
+	
+	long getApplied();
+	
+	long getDropped();
+	
+	long getBlocked();
+}
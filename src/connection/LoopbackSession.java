@@ -0,0 +1,240 @@
+package connection;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.messaging.simp.stomp.ConnectionLostException;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+/**
+ * Session of a LoopbackTransport, the frames are passed as encoded payloads so that the
+ * codec runs exactly as with a real Server
+ */
+public class LoopbackSession implements StompSession {
+	private static final Receiptable NO_RECEIPT = new Receiptable() {
+		@Override
+		public String getReceiptId() {
+			return null;
+		}
+		
+		@Override
+		public void addReceiptTask(Runnable runnable) {}
+		
+		@Override
+		public void addReceiptLostTask(Runnable runnable) {}
+	};
+	
+	private final LoopbackTransport transport;
+	private final String session_id;
+	private final StompSessionHandler handler;
+	private final CopyOnWriteArrayList<LoopbackSubscription> subscriptions;
+	private final AtomicLong subscription_counter;
+	private final AtomicLong message_counter;
+	
+	private volatile boolean connected;
+	
+	LoopbackSession(LoopbackTransport transport, String session_id, StompSessionHandler handler) {
+		this.transport = transport;
+		this.session_id = session_id;
+		this.handler = handler;
+		this.subscriptions = new CopyOnWriteArrayList<LoopbackSubscription>();
+		this.subscription_counter = new AtomicLong();
+		this.message_counter = new AtomicLong();
+		this.connected = true;
+	}
+	
+	/**
+	 * Deliver a frame to the subscriptions of this session
+	 * @param destination Destination of the frame, e.g. /response/login/ followed by the session id
+	 * @param fields Fields of the frame
+	 */
+	public void deliver(String destination, Map<String, ?> fields) {
+		byte[] payload;
+		
+		try {
+			payload = FrameCodec.encode(fields, WireFormat.JSON);
+		} catch (JsonProcessingException e) {
+			ConnectionLog.error("loopback encode " + destination, e);
+			return;
+		}
+		
+		this.transport.getExecutor().execute(() -> {
+			for(LoopbackSubscription subscription : this.subscriptions) {
+				if(subscription.destination.equals(destination)) {
+					subscription.deliver(payload);
+				}
+			}
+		});
+	}
+	
+	/**
+	 * Close the session as if the connection was lost
+	 */
+	public void drop() {
+		this.close();
+		this.transport.getExecutor().execute(() -> this.handler.handleTransportError(this, new ConnectionLostException("Loopback session dropped")));
+	}
+	
+	private void close() {
+		this.connected = false;
+		this.subscriptions.clear();
+		this.transport.remove(this);
+	}
+	
+	@Override
+	public String getSessionId() {
+		return this.session_id;
+	}
+	
+	@Override
+	public boolean isConnected() {
+		return this.connected;
+	}
+	
+	@Override
+	public void setAutoReceipt(boolean enabled) {}
+	
+	@Override
+	public Receiptable send(String destination, Object payload) {
+		StompHeaders headers = new StompHeaders();
+		headers.setDestination(destination);
+		
+		return this.send(headers, payload);
+	}
+	
+	@Override
+	public Receiptable send(StompHeaders headers, Object payload) {
+		if(!this.connected) {
+			throw new IllegalStateException("Loopback session closed");
+		}
+		
+		String destination = headers.getDestination();
+		WireFormat format = WireFormat.fromContentType(headers.getContentType());
+		byte[] bytes = (payload instanceof byte[]) ? (byte[]) payload : String.valueOf(payload).getBytes(StandardCharsets.UTF_8);
+		
+		this.transport.getExecutor().execute(() -> {
+			try {
+				@SuppressWarnings("unchecked")
+				Map<String, Object> fields = FrameCodec.decode(bytes, format, Map.class);
+				this.transport.dispatch(this, destination, fields);
+			} catch (IOException e) {
+				ConnectionLog.error("loopback decode " + destination, e);
+			}
+		});
+		
+		return NO_RECEIPT;
+	}
+	
+	@Override
+	public Subscription subscribe(String destination, StompFrameHandler handler) {
+		StompHeaders headers = new StompHeaders();
+		headers.setDestination(destination);
+		
+		return this.subscribe(headers, handler);
+	}
+	
+	@Override
+	public Subscription subscribe(StompHeaders headers, StompFrameHandler handler) {
+		String id = Long.toString(this.subscription_counter.incrementAndGet());
+		LoopbackSubscription subscription = new LoopbackSubscription(id, headers, handler);
+		
+		this.subscriptions.add(subscription);
+		return subscription;
+	}
+	
+	@Override
+	public Receiptable acknowledge(String messageId, boolean consumed) {
+		return NO_RECEIPT;
+	}
+	
+	@Override
+	public Receiptable acknowledge(StompHeaders headers, boolean consumed) {
+		return NO_RECEIPT;
+	}
+	
+	@Override
+	public void disconnect() {
+		this.close();
+	}
+	
+	@Override
+	public void disconnect(StompHeaders headers) {
+		this.close();
+	}
+	
+	private class LoopbackSubscription implements Subscription {
+		private final String id;
+		private final String destination;
+		private final StompHeaders headers;
+		private final StompFrameHandler handler;
+		
+		public LoopbackSubscription(String id, StompHeaders headers, StompFrameHandler handler) {
+			this.id = id;
+			this.destination = headers.getDestination();
+			this.headers = headers;
+			this.handler = handler;
+		}
+		
+		public void deliver(byte[] payload) {
+			StompHeaders headers = new StompHeaders();
+			headers.setDestination(this.destination);
+			headers.setSubscription(this.id);
+			headers.setMessageId(Long.toString(LoopbackSession.this.message_counter.incrementAndGet()));
+			headers.setContentType(WireFormat.JSON.getMimeType());
+			
+			Type type = this.handler.getPayloadType(headers);
+			
+			try {
+				if(type == byte[].class) {
+					this.handler.handleFrame(headers, payload);
+				} else if(type == String.class) {
+					this.handler.handleFrame(headers, new String(payload, StandardCharsets.UTF_8));
+				} else {
+					this.handler.handleFrame(headers, FrameCodec.decode(payload, WireFormat.JSON, (Class<?>) type));
+				}
+			} catch (IOException e) {
+				ConnectionLog.error("loopback deliver " + this.destination, e);
+			}
+		}
+		
+		@Override
+		public String getReceiptId() {
+			return null;
+		}
+		
+		@Override
+		public void addReceiptTask(Runnable runnable) {}
+		
+		@Override
+		public void addReceiptLostTask(Runnable runnable) {}
+		
+		@Override
+		public String getSubscriptionId() {
+			return this.id;
+		}
+		
+		@Override
+		public StompHeaders getSubscriptionHeaders() {
+			return this.headers;
+		}
+		
+		@Override
+		public void unsubscribe() {
+			LoopbackSession.this.subscriptions.remove(this);
+		}
+		
+		@Override
+		public void unsubscribe(StompHeaders headers) {
+			this.unsubscribe();
+		}
+	}
+}
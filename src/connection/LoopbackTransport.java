@@ -0,0 +1,121 @@
+package connection;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandler;
+
+/**
+ * Transport that keeps the Server in the same JVM: the /app frames are given to the local endpoints
+ * and the frames they deliver reach the subscriptions of the sessions without any socket.
+ * Every frame is handled in order on a single Executor, so many clients can share a transport
+ * and a run is repeatable
+ */
+public class LoopbackTransport implements Transport {
+	private final Executor executor;
+	private final ConcurrentHashMap<String, Endpoint> endpoints;
+	private final CopyOnWriteArrayList<LoopbackSession> sessions;
+	private final AtomicLong session_counter;
+	
+	/**
+	 * Endpoint of the loopback Server
+	 */
+	@FunctionalInterface
+	public interface Endpoint {
+		/**
+		 * Handle a frame sent by a client
+		 * @param session Session that sent the frame, the replies are delivered through it
+		 * @param destination Destination of the frame
+		 * @param fields Fields of the frame
+		 */
+		void handle(LoopbackSession session, String destination, Map<String, Object> fields);
+	}
+	
+	public LoopbackTransport() {
+		this(Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "loopback");
+			thread.setDaemon(true);
+			return thread;
+		}));
+	}
+	
+	/**
+	 * Creates a new instance of LoopbackTransport
+	 * @param executor Executor where the endpoints are called and the frames are delivered
+	 */
+	public LoopbackTransport(Executor executor) {
+		this.executor = executor;
+		this.endpoints = new ConcurrentHashMap<String, Endpoint>();
+		this.sessions = new CopyOnWriteArrayList<LoopbackSession>();
+		this.session_counter = new AtomicLong();
+	}
+	
+	/**
+	 * Add an endpoint, a frame is given to the endpoint with the longest prefix of its destination
+	 * @param prefix Prefix of the destinations, e.g. /app/login/
+	 * @param endpoint Endpoint that handles the frames
+	 * @return this transport
+	 */
+	public LoopbackTransport endpoint(String prefix, Endpoint endpoint) {
+		this.endpoints.put(prefix, endpoint);
+		return this;
+	}
+	
+	/**
+	 * Deliver a frame to every session subscribed to a destination, e.g. a game update
+	 * @param destination Destination of the frame
+	 * @param fields Fields of the frame
+	 */
+	public void broadcast(String destination, Map<String, ?> fields) {
+		for(LoopbackSession session : this.sessions) {
+			session.deliver(destination, fields);
+		}
+	}
+	
+	@Override
+	public CompletableFuture<StompSession> connect(StompSessionHandler handler) {
+		LoopbackSession session = new LoopbackSession(this, "loopback-" + this.session_counter.incrementAndGet(), handler);
+		this.sessions.add(session);
+		
+		return CompletableFuture.supplyAsync(() -> {
+			StompHeaders connectedHeaders = new StompHeaders();
+			connectedHeaders.setContentType(WireFormat.JSON.getMimeType());
+			
+			handler.afterConnected(session, connectedHeaders);
+			return session;
+		}, this.executor);
+	}
+	
+	Executor getExecutor() {
+		return this.executor;
+	}
+	
+	void dispatch(LoopbackSession session, String destination, Map<String, Object> fields) {
+		Endpoint endpoint = null;
+		int prefix_length = -1;
+		
+		for(Map.Entry<String, Endpoint> entry : this.endpoints.entrySet()) {
+			if(destination.startsWith(entry.getKey()) && entry.getKey().length() > prefix_length) {
+				endpoint = entry.getValue();
+				prefix_length = entry.getKey().length();
+			}
+		}
+		
+		if(endpoint != null) {
+			endpoint.handle(session, destination, fields);
+		} else {
+			ConnectionLog.info("loopback no endpoint " + destination);
+		}
+	}
+	
+	void remove(LoopbackSession session) {
+		this.sessions.remove(session);
+	}
+}
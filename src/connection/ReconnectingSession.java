@@ -0,0 +1,338 @@
+package connection;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandler;
+
+/**
+ * Session that keeps the same identity for the rest of the client while the connection underneath
+ * is replaced: the first connection is retried with an exponential backoff until it succeeds, and when
+ * the transport drops it reconnects with the same backoff and subscribes again to all the live destinations
+ */
+public class ReconnectingSession implements StompSession {
+	private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "reconnect");
+		thread.setDaemon(true);
+		return thread;
+	});
+	
+	private final Transport transport;
+	private final StompSessionHandler sessionHandler;
+	private final CopyOnWriteArrayList<ReplayedSubscription> subscriptions;
+	private final CopyOnWriteArrayList<Consumer<String>> reconnectListeners;
+	private final AtomicBoolean reconnecting;
+	private final Object subscriptionLock;
+	
+	private volatile StompSession session;
+	private volatile boolean closed;
+	
+	private final long MIN_BACKOFF = 250;
+	private final long MAX_BACKOFF = 10000;
+	
+	/**
+	 * Creates a new instance of ReconnectingSession
+	 * @param transport Transport used to open every connection
+	 * @param sessionHandler Handler that receives the events of every connection
+	 */
+	public ReconnectingSession(Transport transport, StompSessionHandler sessionHandler) {
+		this.transport = transport;
+		this.sessionHandler = sessionHandler;
+		this.subscriptions = new CopyOnWriteArrayList<ReplayedSubscription>();
+		this.reconnectListeners = new CopyOnWriteArrayList<Consumer<String>>();
+		this.reconnecting = new AtomicBoolean(false);
+		this.subscriptionLock = new Object();
+		this.session = null;
+		this.closed = false;
+	}
+	
+	/**
+	 * Open the first connection, it is tried again with an exponential backoff while the Server is unreachable
+	 * @return Future completed with this session once it is connected, or exceptionally if it is closed before
+	 */
+	public CompletableFuture<StompSession> connect() {
+		CompletableFuture<StompSession> connected = new CompletableFuture<StompSession>();
+		this.connect(MIN_BACKOFF, connected);
+		
+		return connected;
+	}
+	
+	private void connect(long backoff, CompletableFuture<StompSession> connected) {
+		this.transport.connect(new Handler()).whenComplete((session, exception) -> {
+			if(exception == null) {
+				this.session = session;
+				connected.complete(this);
+			} else if(this.closed) {
+				connected.completeExceptionally(exception);
+			} else {
+				ConnectionLog.error("connect", exception);
+				
+				long delay = this.getDelay(backoff);
+				ConnectionLog.info("connect again in " + delay + " ms");
+				
+				scheduler.schedule(() -> this.connect(Math.min(backoff * 2, MAX_BACKOFF), connected), delay, TimeUnit.MILLISECONDS);
+			}
+		});
+	}
+	
+	/**
+	 * Add a listener called after every reconnection
+	 * @param listener Listener that receives the session id used before the reconnection
+	 */
+	public void addReconnectListener(Consumer<String> listener) {
+		this.reconnectListeners.add(listener);
+	}
+	
+	private void scheduleReconnect(long backoff) {
+		if(this.closed) {
+			this.reconnecting.set(false);
+			return;
+		}
+		
+		long delay = this.getDelay(backoff);
+		ConnectionLog.info("reconnect in " + delay + " ms");
+		
+		scheduler.schedule(() -> this.reconnect(backoff), delay, TimeUnit.MILLISECONDS);
+	}
+	
+	private long getDelay(long backoff) {
+		return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+	}
+	
+	private void reconnect(long backoff) {
+		String old_session_id = this.getSessionId();
+		
+		this.transport.connect(new Handler()).whenComplete((session, exception) -> {
+			if(exception != null) {
+				this.scheduleReconnect(Math.min(backoff * 2, MAX_BACKOFF));
+				return;
+			}
+			
+			// The session is replaced under the lock of subscribe, so a new subscription is made only once
+			synchronized(this.subscriptionLock) {
+				this.session = session;
+				
+				for(ReplayedSubscription subscription : this.subscriptions) {
+					if(old_session_id != null && subscription.getDestination().endsWith("/" + old_session_id)) {
+						this.subscriptions.remove(subscription);
+						subscription.discard();
+					} else {
+						subscription.resubscribe(session);
+					}
+				}
+			}
+			
+			this.reconnecting.set(false);
+			
+			for(Consumer<String> listener : this.reconnectListeners) {
+				listener.accept(old_session_id);
+			}
+		});
+	}
+	
+	@Override
+	public String getSessionId() {
+		StompSession session = this.session;
+		return (session != null) ? session.getSessionId() : null;
+	}
+	
+	@Override
+	public boolean isConnected() {
+		StompSession session = this.session;
+		return session != null && session.isConnected();
+	}
+	
+	@Override
+	public void setAutoReceipt(boolean enabled) {
+		this.session.setAutoReceipt(enabled);
+	}
+	
+	@Override
+	public Receiptable send(String destination, Object payload) {
+		return this.session.send(destination, payload);
+	}
+	
+	@Override
+	public Receiptable send(StompHeaders headers, Object payload) {
+		return this.session.send(headers, payload);
+	}
+	
+	@Override
+	public Subscription subscribe(String destination, StompFrameHandler handler) {
+		StompHeaders headers = new StompHeaders();
+		headers.setDestination(destination);
+		
+		return this.subscribe(headers, handler);
+	}
+	
+	@Override
+	public Subscription subscribe(StompHeaders headers, StompFrameHandler handler) {
+		ReplayedSubscription subscription = new ReplayedSubscription(headers, handler);
+		
+		synchronized(this.subscriptionLock) {
+			subscription.resubscribe(this.session);
+			this.subscriptions.add(subscription);
+		}
+		
+		return subscription;
+	}
+	
+	@Override
+	public Receiptable acknowledge(String messageId, boolean consumed) {
+		return this.session.acknowledge(messageId, consumed);
+	}
+	
+	@Override
+	public Receiptable acknowledge(StompHeaders headers, boolean consumed) {
+		return this.session.acknowledge(headers, consumed);
+	}
+	
+	@Override
+	public void disconnect() {
+		this.closed = true;
+		
+		StompSession session = this.session;
+		if(session != null) {
+			session.disconnect();
+		}
+	}
+	
+	@Override
+	public void disconnect(StompHeaders headers) {
+		this.closed = true;
+		
+		StompSession session = this.session;
+		if(session != null) {
+			session.disconnect(headers);
+		}
+	}
+	
+	/**
+	 * Subscription that can be made again on a new connection
+	 */
+	private class ReplayedSubscription implements Subscription {
+		private final StompHeaders headers;
+		private final StompFrameHandler handler;
+		private volatile Subscription subscription;
+		
+		public ReplayedSubscription(StompHeaders headers, StompFrameHandler handler) {
+			this.headers = headers;
+			this.handler = handler;
+		}
+		
+		public String getDestination() {
+			return this.headers.getDestination();
+		}
+		
+		public void resubscribe(StompSession session) {
+			this.discard();
+			
+			StompHeaders headers = new StompHeaders();
+			headers.putAll(this.headers);
+			headers.remove(StompHeaders.ID);
+			
+			this.subscription = session.subscribe(headers, this.handler);
+		}
+		
+		/**
+		 * Drop the subscription made on the previous connection, it can fail when that connection is dead
+		 */
+		public void discard() {
+			Subscription subscription = this.subscription;
+			
+			if(subscription != null) {
+				try {
+					subscription.unsubscribe();
+				} catch (RuntimeException e) {
+					// The old connection is closed, so is its subscription
+				}
+			}
+		}
+		
+		@Override
+		public String getReceiptId() {
+			return this.subscription.getReceiptId();
+		}
+		
+		@Override
+		public void addReceiptTask(Runnable runnable) {
+			this.subscription.addReceiptTask(runnable);
+		}
+		
+		@Override
+		public void addReceiptLostTask(Runnable runnable) {
+			this.subscription.addReceiptLostTask(runnable);
+		}
+		
+		@Override
+		public String getSubscriptionId() {
+			return this.subscription.getSubscriptionId();
+		}
+		
+		@Override
+		public StompHeaders getSubscriptionHeaders() {
+			return this.subscription.getSubscriptionHeaders();
+		}
+		
+		@Override
+		public void unsubscribe() {
+			ReconnectingSession.this.subscriptions.remove(this);
+			this.subscription.unsubscribe();
+		}
+		
+		@Override
+		public void unsubscribe(StompHeaders headers) {
+			ReconnectingSession.this.subscriptions.remove(this);
+			this.subscription.unsubscribe(headers);
+		}
+	}
+	
+	/**
+	 * Handler given to every connection, it forwards the events using this session as their source
+	 */
+	private class Handler implements StompSessionHandler {
+		@Override
+		public Type getPayloadType(StompHeaders headers) {
+			return ReconnectingSession.this.sessionHandler.getPayloadType(headers);
+		}
+		
+		@Override
+		public void handleFrame(StompHeaders headers, Object payload) {
+			ReconnectingSession.this.sessionHandler.handleFrame(headers, payload);
+		}
+		
+		@Override
+		public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
+			if(ReconnectingSession.this.session == null) {
+				ReconnectingSession.this.session = session;
+			}
+			
+			ReconnectingSession.this.sessionHandler.afterConnected(ReconnectingSession.this, connectedHeaders);
+		}
+		
+		@Override
+		public void handleException(StompSession session, StompCommand command, StompHeaders headers, byte[] payload, Throwable exception) {
+			ReconnectingSession.this.sessionHandler.handleException(ReconnectingSession.this, command, headers, payload, exception);
+		}
+		
+		@Override
+		public void handleTransportError(StompSession session, Throwable exception) {
+			ReconnectingSession.this.sessionHandler.handleTransportError(ReconnectingSession.this, exception);
+			
+			if(ReconnectingSession.this.session != null && !session.isConnected() && ReconnectingSession.this.reconnecting.compareAndSet(false, true)) {
+				ReconnectingSession.this.scheduleReconnect(MIN_BACKOFF);
+			}
+		}
+	}
+}
@@ -1,11 +1,16 @@
 package connection;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
-import java.util.Set;
+import java.util.Map;
+import java.util.UUID;
 
 import org.apache.logging.log4j.message.MapMessage;
+import org.springframework.messaging.simp.stomp.StompHeaders;
 import org.springframework.messaging.simp.stomp.StompSession;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+
 public class Request {
 	private StompSession session;
 	private MapMessage message;
@@ -55,31 +60,68 @@ public class Request {
 		this.message.put(fieldKey, fieldValue);
 	}
 	
-	public void sendMessage() {
-		if(this.path != null && !this.path.equals("")) {
-			session.send(this.path, message.asString("JSON"));
+	/**
+	 * Get the idempotency key of this Request, the key is created the first time and then kept
+	 * by every retry so that the Server applies the Request only once
+	 * @return idempotency key of this Request
+	 */
+	public String getIdempotencyKey() {
+		String idempotency_key = this.message.get("idempotency_key");
 		
-			System.out.println("\nSend Message:");
-			this.printFields();
+		if(idempotency_key == null) {
+			idempotency_key = UUID.randomUUID().toString();
+			this.addField("idempotency_key", idempotency_key);
 		}
+		
+		return idempotency_key;
+	}
+	
+	public String getPath() {
+		return this.path;
+	}
+	
+	public Map<String, String> getFields() {
+		return this.message.getData();
+	}
+	
+	public void sendMessage() {
+		this.sendMessage(this.path);
 	}
 	
 	public void sendMessage(String path) {
 		if(path != null && !path.equals("")) {
-			session.send(path, message.asString("JSON"));
-		
-			System.out.println("\nSend Message:");
-			this.printFields();
+			int size = this.send(path);
+			ConnectionMetrics.of(path).recordSent(size);
+			
+			if(ConnectionLog.isEnabled(ConnectionLog.Level.DEBUG)) {
+				Object content = ConnectionLog.isEnabled(ConnectionLog.Level.TRACE) ? new HashMap<String, String>(this.getFields()) : null;
+				ConnectionLog.frame("send", path, size, -1, content);
+			}
 		}
 	}
 	
-	public void printFields() {
-		Set<String> keySet = this.message.getData().keySet();
+	private int send(String path) {
+		WireFormat format = WireFormat.of(this.session);
+		
+		StompHeaders headers = new StompHeaders();
+		headers.setDestination(path);
+		headers.setContentType(format.getMimeType());
 		
-		for(String key : keySet) {
-			String value = this.message.get(key);
+		if(format == WireFormat.JSON) {
+			String payload = message.asString("JSON");
+			session.send(headers, payload);
 			
-			System.out.println(key + ": " + value);
+			return payload.getBytes(StandardCharsets.UTF_8).length;
+		} else {
+			try {
+				byte[] payload = FrameCodec.encode(message.getData(), format);
+				session.send(headers, payload);
+				
+				return payload.length;
+			} catch (JsonProcessingException e) {
+				ConnectionLog.error("encode " + path, e);
+				return -1;
+			}
 		}
 	}
 }
@@ -0,0 +1,44 @@
+package connection;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Lane of pipelined Requests whose replies have to be applied in the same order the Requests were sent,
+ * the Requests are not held back, only the delivery of their replies is ordered
+ */
+public class RequestLane {
+	private final String name;
+	private CompletableFuture<?> tail;
+	
+	public RequestLane(String name) {
+		this.name = name;
+		this.tail = CompletableFuture.completedFuture(null);
+	}
+	
+	public String getName() {
+		return this.name;
+	}
+	
+	/**
+	 * Apply a reply after the replies of all the Requests sent before it in this lane have been applied
+	 * @param reply Future of the reply
+	 * @param apply Function applied to the reply
+	 * @param executor Executor where the function is applied
+	 * @return Future completed with the result of the function
+	 */
+	public synchronized <T, R> CompletableFuture<R> submit(CompletableFuture<T> reply, Function<? super T, ? extends R> apply, Executor executor) {
+		CompletableFuture<R> result = this.tail
+			.handle((previous, exception) -> null)
+			.thenCompose(previous -> reply)
+			.thenApplyAsync(apply, executor);
+		
+		this.tail = result;
+		return result;
+	}
+	
+	public synchronized boolean isIdle() {
+		return this.tail.isDone();
+	}
+}
@@ -1,49 +1,63 @@
 package connection;
 
-import java.lang.reflect.Executable;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.lang.reflect.Type;
-import java.util.HashMap;
-import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.locks.Lock;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
-import org.springframework.messaging.simp.stomp.StompCommand;
-import org.springframework.messaging.simp.stomp.StompFrameHandler;
-import org.springframework.messaging.simp.stomp.StompHeaders;
 import org.springframework.messaging.simp.stomp.StompSession;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import connection.messages.Reply;
 
-public class Response<T> implements StompFrameHandler {
+public class Response<T> {
+	public static final Executor CALLER = Runnable::run;
+	public static final String RETRIES_PROPERTY = "losttreasure.retries";
+	
+	private static volatile Executor executor = ForkJoinPool.commonPool();
+	
+	private final long RETRY_BACKOFF = 100;
+	
 	private StompSession session;
 	private String path;
-	private HashMap<String, String> response;
-	private T objectHandler;
-	private AtomicBoolean status;
+	private String request_path;
+	private String request_id;
+	private final Class<T> type;
+	private T response;
+	private CompletableFuture<T> future;
+	private long sent_at;
+	private long wait_time;
+	private int retries;
+	private volatile int attempts;
+	private boolean breaker_accounting;
 	
-	private final int WAIT_TIME = 1000;
-	
-	public Response(StompSession session, String path) {
+	public Response(StompSession session, String path, Class<T> type) {
 		this.session = session;
 		this.path = path;
-		this.response = new HashMap<String, String>();
-		this.objectHandler = null;
-		this.status = new AtomicBoolean(false);
+		this.type = type;
+		this.response = null;
+		this.future = new CompletableFuture<T>();
+		this.sent_at = -1;
+		this.wait_time = 0;
+		this.retries = 0;
+		this.attempts = 0;
+		this.breaker_accounting = true;
 		
 		this.subscribe(this.path);
 	}
 	
-	public Response(StompSession session, String path, T objectHandler) {
-		this.session = session;
-		this.path = path;
-		this.response = new HashMap<String, String>();
-		this.objectHandler = objectHandler;
-		this.status = new AtomicBoolean(false);
+	/**
+	 * Set the Executor used to complete the asynchronous controller calls
+	 * @param executor Executor where the results are delivered
+	 */
+	public static void setExecutor(Executor executor) {
+		Response.executor = executor;
+	}
 	
-		this.subscribe(this.path);
+	public static Executor getExecutor() {
+		return Response.executor;
 	}
 	
 	public void setSession(StompSession session) {
@@ -54,75 +68,227 @@ public class Response<T> implements StompFrameHandler {
 		this.path = path;
 	}
 	
+	/**
+	 * Use a fixed timeout for this Response instead of the one of its destination
+	 * @param wait_time Timeout in milliseconds, 0 to use the timeout of the destination
+	 */
+	public void setTimeout(long wait_time) {
+		this.wait_time = wait_time;
+	}
+	
+	/**
+	 * @return timeout of this Response, adapted to the round trip time of its destination unless it is fixed
+	 */
+	public long getTimeout() {
+		return (this.wait_time > 0) ? this.wait_time : ResponseTimeouts.getTimeout(this.path);
+	}
+	
+	/**
+	 * Set how many times the Request is sent again when its reply times out
+	 * @param retries Number of retries, 0 to send the Request only once
+	 */
+	public void setRetries(int retries) {
+		this.retries = retries;
+	}
+	
+	/**
+	 * Set if the Request can be applied more than once by the Server without any effect, e.g. a read:
+	 * only such a Request is sent again when its reply times out, as many times as the losttreasure.retries
+	 * property says (2 by default), since the Server is not required to recognize the idempotency key
+	 * @param idempotent whether the Request is idempotent
+	 */
+	public void setIdempotent(boolean idempotent) {
+		this.retries = idempotent ? Integer.getInteger(RETRIES_PROPERTY, 2) : 0;
+	}
+	
+	/**
+	 * Set if the outcome of the Request is counted by the CircuitBreaker of the session, a Request that
+	 * is not counted is also sent while the breaker is open
+	 * @param breaker_accounting false for the Requests that do not tell if the Server is healthy, e.g. the pings
+	 */
+	public void setBreakerAccounting(boolean breaker_accounting) {
+		this.breaker_accounting = breaker_accounting;
+	}
+	
+	/**
+	 * @return number of times the Request has been sent, more than 1 when it was retried
+	 */
+	public int getAttempts() {
+		return this.attempts;
+	}
+	
+	public String getRequestId() {
+		return this.request_id;
+	}
+	
+	public Class<T> getType() {
+		return this.type;
+	}
+	
 	public void subscribe(String path) {
-		System.out.println("SUBSCRIBE: " + path);
-		
 		if(path != null && !path.equals("")) {
-			this.session.subscribe(path, this);
+			this.request_id = ResponseRouter.getRouter(this.session).register(path, this);
 		}
 	}
 	
-	@Override
-	public Type getPayloadType(StompHeaders headers) {
-		return String.class;
-	}
-
-	@Override
-	public synchronized void handleFrame(StompHeaders headers, Object payload) {
-		try {
-			this.response = new ObjectMapper().readValue((String) payload, HashMap.class);
+	void complete(Object message, int size) {
+		this.response = this.type.cast(message);
+		
+		long latency = (this.sent_at >= 0) ? System.nanoTime() - this.sent_at : -1;
+		if(latency >= 0) {
+			ConnectionMetrics.of(this.getMetricsPath()).recordReply(latency);
 			
-			if(this.objectHandler != null) {
-				Method method = this.objectHandler.getClass().getMethod("execute", HashMap.class);
-				
-				if(!method.isAccessible()) {
-					method.setAccessible(true);	
-					method.invoke(this.objectHandler, response);
-				}
+			// The reply of a retried Request could belong to any of its attempts, so it is not a RTT sample
+			if(this.attempts <= 1) {
+				ResponseTimeouts.record(this.path, latency);
 			} else {
-				this.status.set(true);
-				this.notifyAll();
+				ResponseTimeouts.recordRetriedReply(this.path);
 			}
-			
-			System.out.println("\nResponse Message:");
-			this.printFields();
-		} catch (JsonProcessingException e) {
-			e.printStackTrace();
-		} catch (NoSuchMethodException e) {
-			e.printStackTrace();
-		} catch (IllegalAccessException e) {
-			e.printStackTrace();
-		} catch (IllegalArgumentException e) {
-			e.printStackTrace();
-		} catch (InvocationTargetException e) {
-			e.printStackTrace();
-		} 
-	}
-	
-	public synchronized HashMap<String, String> getResponse() throws Exception {
-		long start_time = System.currentTimeMillis();
+		}
 		
-		while(!this.status.get() && (System.currentTimeMillis() - start_time) < WAIT_TIME) {
-			try {
-				this.wait(WAIT_TIME);
-			} catch (InterruptedException e) {
-				e.printStackTrace();
-			}
+		ConnectionLog.frame("reply", this.path, size, latency, this.response);
+		
+		this.future.complete(this.response);
+	}
+	
+	/**
+	 * Send the Request and wait for its reply without blocking the caller, the Request is sent once the
+	 * Requests before it on the same response path are answered. An idempotent Request is sent again with the
+	 * same request_id and idempotency key when a reply times out, after a jittered backoff
+	 * @param request Request to send, it is tagged with the request_id of this Response
+	 * @return Future completed with the reply, or with a ResponseException on timeout or when the Server is unreachable
+	 */
+	public CompletableFuture<T> send(Request request) {
+		request.addField("request_id", this.request_id);
+		request.getIdempotencyKey();
+		
+		return ResponseRouter.getRouter(this.session).acquire(this.path, this.request_id).thenCompose(turn -> this.sendNow(request));
+	}
+	
+	private CompletableFuture<T> sendNow(Request request) {
+		CircuitBreaker breaker = this.breaker_accounting ? CircuitBreaker.getBreaker(this.session) : null;
+		
+		if(breaker != null && !breaker.allowRequest()) {
+			ResponseRouter.getRouter(this.session).release(this.path, this.request_id);
+			return CompletableFuture.failedFuture(new ResponseException("ERROR: Server unreachable"));
+		}
+		
+		CompletableFuture<T> reply;
+		
+		try {
+			// The commands issued before this Request have to reach the Server first
+			CommandQueue.flushQueue(this.session);
+			reply = this.attempt(request);
+		} catch (RuntimeException e) {
+			// The Request was not sent, e.g. the connection is closed, so the next one on the path can go
+			ResponseRouter.getRouter(this.session).release(this.path, this.request_id);
+			reply = CompletableFuture.failedFuture(e);
 		}
 		
-		if(this.response.isEmpty()) {
-			throw new Exception("ERROR: No response");
+		if(breaker == null) {
+			return reply;
 		}
 		
-		this.status.set(true);
-		return this.response;
+		// The trial Request of a half open breaker is over on every outcome
+		return reply.whenComplete((response, exception) -> {
+			if(exception == null) {
+				breaker.recordSuccess();
+			} else if(exception.getCause() instanceof ResponseException) {
+				breaker.recordFailure();
+			} else {
+				breaker.recordIgnored();
+			}
+		});
 	}
 	
-	public void printFields() {
-		for(String key : this.response.keySet()) {
-			String value = this.response.get(key);
+	private CompletableFuture<T> attempt(Request request) {
+		int attempt = this.attempts++;
+		
+		this.request_path = request.getPath();
+		this.sent_at = System.nanoTime();
+		request.sendMessage();
+		
+		CompletableFuture<T> reply = this.future.copy()
+			.orTimeout(this.getTimeout(), TimeUnit.MILLISECONDS)
+			.exceptionallyCompose(exception -> {
+				if(!(exception instanceof TimeoutException) || attempt >= this.retries || this.future.isDone()) {
+					return CompletableFuture.failedFuture(exception);
+				}
+				
+				this.recordTimeout();
+				
+				long delay = ThreadLocalRandom.current().nextLong(RETRY_BACKOFF << attempt) + 1;
+				Executor delayed = CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS);
+				
+				return CompletableFuture.supplyAsync(() -> request, delayed).thenCompose(this::attempt);
+			});
+		
+		return (attempt == 0) ? this.finish(reply) : reply;
+	}
+	
+	/**
+	 * @return Future of the reply of a Request sent without send, the reply is matched only by its request_id
+	 */
+	public CompletableFuture<T> getFuture() {
+		return this.finish(this.future.copy().orTimeout(this.getTimeout(), TimeUnit.MILLISECONDS));
+	}
+	
+	private CompletableFuture<T> finish(CompletableFuture<T> reply) {
+		return reply.handle((response, exception) -> {
+			ResponseRouter.getRouter(this.session).release(this.path, this.request_id);
+			
+			if(exception instanceof CompletionException && exception.getCause() != null) {
+				exception = exception.getCause();
+			}
+			
+			if(exception instanceof TimeoutException) {
+				this.recordTimeout();
+				throw new ResponseException("ERROR: No response");
+			} else if(exception != null) {
+				throw new CompletionException(exception);
+			}
+			
+			return response;
+		});
+	}
+	
+	private void recordTimeout() {
+		ConnectionMetrics.of(this.getMetricsPath()).recordTimeout();
+		ResponseTimeouts.recordTimeout(this.path);
+	}
+	
+	/**
+	 * The replies, their latency and the timeouts are counted under the destination of the Request,
+	 * together with its sent frames
+	 */
+	private String getMetricsPath() {
+		String request_path = this.request_path;
+		return (request_path != null && !request_path.equals("")) ? request_path : this.path;
+	}
+	
+	public T getResponse() throws Exception {
+		try {
+			return this.getFuture().join();
+		} catch (CompletionException e) {
+			if(e.getCause() instanceof Exception) {
+				throw (Exception) e.getCause();
+			}
 			
-			System.out.println(key + ": " + value);
+			throw e;
 		}
 	}
+	
+	/**
+	 * Check the status of a reply
+	 * @param reply Reply received from the Server
+	 * @return the same reply when its status is success
+	 * @throws ResponseException with the error_message of the Server otherwise
+	 */
+	public static <R extends Reply> R checkStatus(R reply) {
+		if(!reply.isSuccess()) {
+			throw new ResponseException(reply.getError());
+		}
+		
+		return reply;
+	}
 }
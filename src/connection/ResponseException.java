@@ -0,0 +1,27 @@
+package connection;
+
+import java.util.concurrent.CompletionException;
+
+/**
+ * Error returned by an asynchronous controller call, either reported by the Server or caused by a missing reply
+ */
+public class ResponseException extends RuntimeException {
+	private static final long serialVersionUID = 1L;
+	
+	public ResponseException(String error_message) {
+		super(error_message);
+	}
+	
+	/**
+	 * Retrieve the error message of a failed controller call
+	 * @param exception Exception that completed the call
+	 * @return Error message to show
+	 */
+	public static String getError(Throwable exception) {
+		while(exception instanceof CompletionException && exception.getCause() != null) {
+			exception = exception.getCause();
+		}
+		
+		return exception.getMessage();
+	}
+}
@@ -0,0 +1,292 @@
+package connection;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSession.Subscription;
+
+/**
+ * Keeps a single subscription for every response path of a session and routes
+ * each reply to the Response waiting for it, using the request_id carried by the Request.
+ * Only one Request is in flight on a response path at a time, the others wait for their turn:
+ * a reply without request_id belongs to the Request in flight, so the Server does not have to echo
+ * the request_id, but then the late reply of a Request that timed out can not be told apart
+ */
+public class ResponseRouter {
+	private static final Map<StompSession, ResponseRouter> routers = Collections.synchronizedMap(new WeakHashMap<StompSession, ResponseRouter>());
+	
+	private final StompSession session;
+	private final ConcurrentHashMap<String, Destination> destinations;
+	private final ConcurrentHashMap<String, RequestLane> lanes;
+	private final AtomicLong request_counter;
+	
+	private ResponseRouter(StompSession session) {
+		this.session = session;
+		this.destinations = new ConcurrentHashMap<String, Destination>();
+		this.lanes = new ConcurrentHashMap<String, RequestLane>();
+		this.request_counter = new AtomicLong();
+		
+		if(session instanceof ReconnectingSession) {
+			((ReconnectingSession) session).addReconnectListener(this::dropSession);
+		}
+	}
+	
+	public static ResponseRouter getRouter(StompSession session) {
+		synchronized(routers) {
+			return routers.computeIfAbsent(session, ResponseRouter::new);
+		}
+	}
+	
+	public String register(String path, Response<?> response) {
+		String request_id = Long.toString(this.request_counter.incrementAndGet());
+		
+		this.getDestination(path, response.getType()).addPending(request_id, response);
+		return request_id;
+	}
+	
+	/**
+	 * Wait for the turn of a Request on its response path
+	 * @param path Response path of the Request
+	 * @param request_id request_id returned by register
+	 * @return Future completed when the Request can be sent
+	 */
+	public CompletableFuture<Void> acquire(String path, String request_id) {
+		Destination destination = this.destinations.get(path);
+		
+		if(destination == null) {
+			return CompletableFuture.completedFuture(null);
+		}
+		
+		return destination.acquire(request_id);
+	}
+	
+	/**
+	 * Forget a Response, the next Request waiting on the same path is sent
+	 * @param path Response path of the Request
+	 * @param request_id request_id returned by register
+	 */
+	public void release(String path, String request_id) {
+		Destination destination = this.destinations.get(path);
+		
+		if(destination != null) {
+			destination.removePending(request_id);
+		}
+	}
+	
+	/**
+	 * Set the pipeline applied to the frames of a path that are not replies to a pending Request,
+	 * the previous pipeline of the same path is replaced
+	 * @param path Path to listen to
+	 * @param pipeline Pipeline used to decode and handle the frames
+	 */
+	public void listen(String path, FramePipeline<?> pipeline) {
+		this.destinations.computeIfAbsent(path, key -> new Destination(key, pipeline)).setPipeline(pipeline);
+	}
+	
+	public void unsubscribe(String path) {
+		Destination destination = this.destinations.remove(path);
+		
+		if(destination != null) {
+			destination.unsubscribe();
+			destination.releaseWaiting();
+		}
+	}
+	
+	/**
+	 * Forget the paths bound to a session id that is no longer valid after a reconnection,
+	 * their subscriptions are already dropped by the ReconnectingSession
+	 * @param old_session_id Session id used before the reconnection
+	 */
+	private void dropSession(String old_session_id) {
+		if(old_session_id == null) {
+			return;
+		}
+		
+		this.destinations.entrySet().removeIf(entry -> {
+			if(entry.getKey().endsWith("/" + old_session_id)) {
+				entry.getValue().releaseWaiting();
+				return true;
+			}
+			
+			return false;
+		});
+	}
+	
+	/**
+	 * Apply a reply in order with the other replies of the same lane, the lane is removed once it is idle
+	 * @param lane Name of the lane, e.g. the game the Request belongs to
+	 * @param reply Future of the reply
+	 * @param apply Function applied to the reply
+	 * @param executor Executor where the function is applied
+	 * @return Future completed with the result of the function
+	 */
+	public <T, R> CompletableFuture<R> inOrder(String lane, CompletableFuture<T> reply, Function<? super T, ? extends R> apply, Executor executor) {
+		RequestLane requestLane = this.lanes.computeIfAbsent(lane, RequestLane::new);
+		CompletableFuture<R> result = requestLane.submit(reply, apply, executor);
+		
+		result.whenComplete((value, exception) -> {
+			if(requestLane.isIdle()) {
+				this.lanes.remove(lane, requestLane);
+			}
+		});
+		
+		return result;
+	}
+	
+	public int getPendingCount() {
+		int pending_count = 0;
+		
+		for(Destination destination : this.destinations.values()) {
+			pending_count += destination.pending.size();
+		}
+		
+		return pending_count;
+	}
+	
+	private Destination getDestination(String path, Class<?> type) {
+		return this.destinations.computeIfAbsent(path, key -> new Destination(key, new FramePipeline<>(type)));
+	}
+	
+	private class Destination implements StompFrameHandler {
+		private final String path;
+		private final ConcurrentHashMap<String, Response<?>> pending;
+		private final LinkedHashMap<String, CompletableFuture<Void>> waiting;
+		private final DestinationMetrics metrics;
+		private volatile FramePipeline<?> pipeline;
+		private String in_flight;
+		private Subscription subscription;
+		
+		public Destination(String path, FramePipeline<?> pipeline) {
+			this.path = path;
+			this.pipeline = pipeline;
+			this.pending = new ConcurrentHashMap<String, Response<?>>();
+			this.waiting = new LinkedHashMap<String, CompletableFuture<Void>>();
+			this.in_flight = null;
+			this.metrics = ConnectionMetrics.of(path);
+			
+			ConnectionLog.info("subscribe " + path);
+			this.subscription = ResponseRouter.this.session.subscribe(path, this);
+		}
+		
+		public synchronized void addPending(String request_id, Response<?> response) {
+			this.pending.put(request_id, response);
+		}
+		
+		public synchronized void removePending(String request_id) {
+			this.pending.remove(request_id);
+			this.waiting.remove(request_id);
+			
+			if(request_id.equals(this.in_flight)) {
+				this.in_flight = null;
+				
+				Iterator<Map.Entry<String, CompletableFuture<Void>>> iterator = this.waiting.entrySet().iterator();
+				
+				if(iterator.hasNext()) {
+					Map.Entry<String, CompletableFuture<Void>> next = iterator.next();
+					iterator.remove();
+					
+					// The next Request is sent from another thread, this one may be the inbound thread
+					this.in_flight = next.getKey();
+					next.getValue().completeAsync(() -> null);
+				}
+			}
+		}
+		
+		public synchronized CompletableFuture<Void> acquire(String request_id) {
+			if(this.in_flight == null) {
+				this.in_flight = request_id;
+				return CompletableFuture.completedFuture(null);
+			}
+			
+			CompletableFuture<Void> turn = new CompletableFuture<Void>();
+			this.waiting.put(request_id, turn);
+			
+			return turn;
+		}
+		
+		/**
+		 * Let the waiting Requests go once the path is dropped, they time out instead of waiting forever
+		 */
+		public synchronized void releaseWaiting() {
+			for(CompletableFuture<Void> turn : this.waiting.values()) {
+				turn.completeAsync(() -> null);
+			}
+			
+			this.waiting.clear();
+		}
+		
+		public void setPipeline(FramePipeline<?> pipeline) {
+			this.pipeline = pipeline;
+		}
+		
+		public void unsubscribe() {
+			if(this.subscription != null) {
+				ConnectionLog.info("unsubscribe " + this.path);
+				
+				this.subscription.unsubscribe();
+				this.subscription = null;
+			}
+		}
+		
+		@Override
+		public Type getPayloadType(StompHeaders headers) {
+			return byte[].class;
+		}
+		
+		@Override
+		public void handleFrame(StompHeaders headers, Object payload) {
+			FramePipeline<?> pipeline = this.pipeline;
+			byte[] bytes = (byte[]) payload;
+			Object message;
+			
+			this.metrics.recordReceived(bytes.length);
+			
+			try {
+				message = pipeline.decode(bytes, WireFormat.fromContentType(headers.getContentType()));
+			} catch (IOException e) {
+				ConnectionLog.error("decode " + this.path, e);
+				return;
+			}
+			
+			if(message == null) {
+				return;
+			}
+			
+			String request_id = FrameCodec.getRequestId(message);
+			Response<?> response;
+			
+			synchronized(this) {
+				response = this.takePending(request_id);
+			}
+			
+			if(response != null) {
+				response.complete(message, bytes.length);
+			} else {
+				ConnectionLog.frame("push", this.path, bytes.length, -1, message);
+				pipeline.process(message);
+			}
+		}
+		
+		private Response<?> takePending(String request_id) {
+			if(request_id != null) {
+				return this.pending.remove(request_id);
+			}
+			
+			// The Server does not echo the request_id, its reply belongs to the Request in flight
+			return (this.in_flight != null) ? this.pending.remove(this.in_flight) : null;
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package connection;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Timeouts of the replies, computed for every destination from the measured round trip time.
+ * A destination (e.g. /response/game/move, see ConnectionMetrics) can have a fixed timeout, set
+ * with setTimeout or with the losttreasure.timeout. property followed by the destination
+ */
+public final class ResponseTimeouts {
+	public static final String TIMEOUT_PROPERTY = "losttreasure.timeout.";
+	
+	public static final long INITIAL_TIMEOUT = 1000;
+	public static final long MIN_TIMEOUT = 200;
+	public static final long MAX_TIMEOUT = 10000;
+	
+	private static final ConcurrentHashMap<String, RttEstimator> estimators = new ConcurrentHashMap<String, RttEstimator>();
+	private static final ConcurrentHashMap<String, Long> overrides = new ConcurrentHashMap<String, Long>();
+	
+	private ResponseTimeouts() {}
+	
+	/**
+	 * Get the timeout of the replies on a path
+	 * @param path Path of the replies, e.g. /response/game/move/ followed by the session id
+	 * @return timeout in milliseconds
+	 */
+	public static long getTimeout(String path) {
+		if(path == null) {
+			return INITIAL_TIMEOUT;
+		}
+		
+		String destination = ConnectionMetrics.getDestination(path);
+		Long timeout = overrides.get(destination);
+		
+		if(timeout == null) {
+			timeout = Long.getLong(TIMEOUT_PROPERTY + destination);
+		}
+		
+		if(timeout != null) {
+			return timeout;
+		}
+		
+		return ResponseTimeouts.getEstimator(destination).getTimeout(INITIAL_TIMEOUT, MIN_TIMEOUT, MAX_TIMEOUT);
+	}
+	
+	/**
+	 * Use a fixed timeout for a destination
+	 * @param destination Destination without its last segment, e.g. /response/leaderboard
+	 * @param timeout Timeout in milliseconds
+	 */
+	public static void setTimeout(String destination, long timeout) {
+		overrides.put(destination, timeout);
+	}
+	
+	public static void clearTimeout(String destination) {
+		overrides.remove(destination);
+	}
+	
+	public static RttEstimator getEstimator(String destination) {
+		return estimators.computeIfAbsent(destination, key -> new RttEstimator());
+	}
+	
+	static void record(String path, long nanos) {
+		ResponseTimeouts.getEstimator(ConnectionMetrics.getDestination(path)).record(nanos / 1_000_000.0);
+	}
+	
+	static void recordRetriedReply(String path) {
+		ResponseTimeouts.getEstimator(ConnectionMetrics.getDestination(path)).resetBackoff();
+	}
+	
+	static void recordTimeout(String path) {
+		ResponseTimeouts.getEstimator(ConnectionMetrics.getDestination(path)).recordTimeout();
+	}
+}
@@ -0,0 +1,77 @@
+package connection;
+
+/**
+ * Rolling estimate of a round trip time and of its variation, updated as in RFC 6298
+ * (SRTT and RTTVAR with gains 1/8 and 1/4), and the retransmission style timeout derived from them
+ */
+public class RttEstimator {
+	private double srtt;
+	private double rttvar;
+	private long samples;
+	private int backoff;
+	
+	public RttEstimator() {
+		this.srtt = 0;
+		this.rttvar = 0;
+		this.samples = 0;
+		this.backoff = 0;
+	}
+	
+	/**
+	 * Add a sample, the timeout backoff is reset
+	 * @param rtt Round trip time in milliseconds
+	 */
+	public synchronized void record(double rtt) {
+		if(this.samples == 0) {
+			this.srtt = rtt;
+			this.rttvar = rtt / 2;
+		} else {
+			this.rttvar = 0.75 * this.rttvar + 0.25 * Math.abs(this.srtt - rtt);
+			this.srtt = 0.875 * this.srtt + 0.125 * rtt;
+		}
+		
+		this.samples++;
+		this.backoff = 0;
+	}
+	
+	/**
+	 * Double the timeout until the next sample, as after a lost reply
+	 */
+	public synchronized void recordTimeout() {
+		if(this.backoff < 16) {
+			this.backoff++;
+		}
+	}
+	
+	/**
+	 * Stop doubling the timeout without adding a sample, as after the reply of a retried Request
+	 */
+	public synchronized void resetBackoff() {
+		this.backoff = 0;
+	}
+	
+	/**
+	 * Get the timeout SRTT + 4 RTTVAR, doubled for every timeout since the last sample
+	 * @param initial Timeout used before the first sample
+	 * @param min Lower bound of the timeout
+	 * @param max Upper bound of the timeout
+	 * @return timeout in milliseconds
+	 */
+	public synchronized long getTimeout(long initial, long min, long max) {
+		double timeout = (this.samples == 0) ? initial : Math.max(min, this.srtt + 4 * this.rttvar);
+		
+		return (long) Math.min(max, timeout * (1L << this.backoff));
+	}
+	
+	public synchronized double getSmoothedRtt() {
+		return this.srtt;
+	}
+	
+	public synchronized double getRttVariance() {
+		return this.rttvar;
+	}
+	
+	public synchronized long getSampleCount() {
+		return this.samples;
+	}
+}
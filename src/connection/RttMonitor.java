@@ -0,0 +1,144 @@
+package connection;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.messaging.simp.stomp.StompSession;
+
+import connection.messages.Reply;
+
+/**
+ * Round trip time of a session, measured with a periodic /app/ping Request and kept both as a
+ * smoothed estimate (SRTT and RTTVAR, as in RFC 6298) and as a histogram with power of two buckets.
+ * The pings need a Server that answers /app/ping on /response/ping, so they are sent only when
+ * losttreasure.ping-interval is set; the reply timeouts do not depend on them
+ */
+public class RttMonitor {
+	public static final String INTERVAL_PROPERTY = "losttreasure.ping-interval";
+	public static final int BUCKETS = 16;
+	
+	private static final Map<StompSession, RttMonitor> monitors = Collections.synchronizedMap(new WeakHashMap<StompSession, RttMonitor>());
+	
+	private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "rtt-monitor");
+		thread.setDaemon(true);
+		return thread;
+	});
+	
+	private final StompSession session;
+	private final AtomicLongArray histogram;
+	private final RttEstimator estimator;
+	private ScheduledFuture<?> task;
+	
+	private RttMonitor(StompSession session) {
+		this.session = session;
+		this.histogram = new AtomicLongArray(BUCKETS);
+		this.estimator = new RttEstimator();
+		this.task = null;
+	}
+	
+	public static RttMonitor getMonitor(StompSession session) {
+		synchronized(monitors) {
+			return monitors.computeIfAbsent(session, RttMonitor::new);
+		}
+	}
+	
+	/**
+	 * Start pinging the Server with the interval set by the losttreasure.ping-interval property,
+	 * in milliseconds, disabled when it is missing or 0
+	 */
+	public void start() {
+		this.start(Long.getLong(INTERVAL_PROPERTY, 0));
+	}
+	
+	/**
+	 * Start pinging the Server
+	 * @param interval Interval between two pings in milliseconds, 0 to disable them
+	 */
+	public synchronized void start(long interval) {
+		this.stop();
+		
+		if(interval > 0) {
+			this.task = scheduler.scheduleWithFixedDelay(this::ping, interval, interval, TimeUnit.MILLISECONDS);
+		}
+	}
+	
+	public synchronized void stop() {
+		if(this.task != null) {
+			this.task.cancel(false);
+			this.task = null;
+		}
+	}
+	
+	private void ping() {
+		if(!this.session.isConnected()) {
+			return;
+		}
+		
+		String sessionID = this.session.getSessionId();
+		
+		Response<Reply> response = new Response<>(this.session, "/response/ping/" + sessionID, Reply.class);
+		Request request = new Request(this.session, "/app/ping/" + sessionID);
+		
+		// A missing reply only means that the Server does not answer to the pings: a ping is sent only once,
+		// so its reply is always a sample (Karn's rule), and it is not counted by the CircuitBreaker
+		response.setRetries(0);
+		response.setBreakerAccounting(false);
+		
+		long start = System.nanoTime();
+		
+		response.send(request).thenAccept(reply -> this.record(System.nanoTime() - start));
+	}
+	
+	/**
+	 * Add a round trip time sample
+	 * @param nanos Round trip time in nanoseconds
+	 */
+	public void record(long nanos) {
+		double rtt = nanos / 1_000_000.0;
+		
+		int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros((long) rtt));
+		this.histogram.incrementAndGet(bucket);
+		
+		this.estimator.record(rtt);
+	}
+	
+	/**
+	 * @return smoothed round trip time in milliseconds, 0 before the first sample
+	 */
+	public double getSmoothedRtt() {
+		return this.estimator.getSmoothedRtt();
+	}
+	
+	/**
+	 * @return round trip time variation in milliseconds, 0 before the first sample
+	 */
+	public double getRttVariance() {
+		return this.estimator.getRttVariance();
+	}
+	
+	public long getSampleCount() {
+		return this.estimator.getSampleCount();
+	}
+	
+	/**
+	 * Get a copy of the histogram, bucket 0 counts the samples below 1 ms and bucket i > 0
+	 * the samples between 2^(i-1) and 2^i ms, the last bucket includes all the slower samples
+	 * @return counts of the samples of every bucket
+	 */
+	public long[] getHistogram() {
+		long[] counts = new long[BUCKETS];
+		
+		for(int i = 0; i < BUCKETS; i++) {
+			counts[i] = this.histogram.get(i);
+		}
+		
+		return counts;
+	}
+}
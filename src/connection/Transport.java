@@ -0,0 +1,19 @@
+package connection;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandler;
+
+/**
+ * Way of opening a session with the Server, e.g. a WebSocket or an in-process loopback
+ */
+@FunctionalInterface
+public interface Transport {
+	/**
+	 * Open a new session
+	 * @param handler Handler that receives the events of the session
+	 * @return Future completed with the session once it is connected
+	 */
+	CompletableFuture<StompSession> connect(StompSessionHandler handler);
+}
@@ -0,0 +1,56 @@
+package connection;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+/**
+ * Transport that connects to the Server with STOMP over a WebSocket
+ */
+public class WebSocketTransport implements Transport {
+	public static final String HEARTBEAT_PROPERTY = "losttreasure.heartbeat";
+	
+	private final String URL;
+	private final WebSocketStompClient client;
+	private final StompHeaders connectHeaders;
+	
+	/**
+	 * Creates a new instance of WebSocketTransport, the heartbeats are sent every 10000 ms
+	 * unless the losttreasure.heartbeat property sets another interval (0 to disable them)
+	 * @param URL of the Server
+	 */
+	public WebSocketTransport(String URL) {
+		this.URL = URL;
+		this.client = new WebSocketStompClient(new StandardWebSocketClient());
+		this.client.setMessageConverter(new WireMessageConverter());
+		
+		long heartbeat = Long.getLong(HEARTBEAT_PROPERTY, 10000);
+		if(heartbeat > 0) {
+			ThreadPoolTaskScheduler heartbeatScheduler = new ThreadPoolTaskScheduler();
+			heartbeatScheduler.setThreadNamePrefix("stomp-heartbeat-");
+			heartbeatScheduler.setDaemon(true);
+			heartbeatScheduler.initialize();
+			
+			this.client.setTaskScheduler(heartbeatScheduler);
+			this.client.setDefaultHeartbeat(new long[] {heartbeat, heartbeat});
+		}
+		
+		this.connectHeaders = new StompHeaders();
+		WireFormat.request(this.connectHeaders, WireFormat.getPreferred());
+	}
+	
+	public WebSocketStompClient getClient() {
+		return this.client;
+	}
+	
+	@Override
+	public CompletableFuture<StompSession> connect(StompSessionHandler handler) {
+		return this.client.connect(this.URL, new WebSocketHttpHeaders(), this.connectHeaders, handler).completable();
+	}
+}
@@ -0,0 +1,96 @@
+package connection;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.util.MimeType;
+
+/**
+ * Encodings that can be used for the payload of the frames, selected through the STOMP content-type header
+ */
+public enum WireFormat {
+	JSON(new MimeType("text", "plain", StandardCharsets.UTF_8)),
+	SMILE(new MimeType("application", "x-jackson-smile"));
+	
+	public static final String ACCEPT_HEADER = "accept-content-type";
+	public static final String FORMAT_PROPERTY = "losttreasure.wire-format";
+	
+	private static final Map<StompSession, WireFormat> formats = Collections.synchronizedMap(new WeakHashMap<StompSession, WireFormat>());
+	
+	private final MimeType mimeType;
+	
+	private WireFormat(MimeType mimeType) {
+		this.mimeType = mimeType;
+	}
+	
+	public MimeType getMimeType() {
+		return this.mimeType;
+	}
+	
+	/**
+	 * Retrieve the format the client asks for when connecting, set through the losttreasure.wire-format property
+	 * @return Preferred format, SMILE by default
+	 */
+	public static WireFormat getPreferred() {
+		String format = System.getProperty(FORMAT_PROPERTY, SMILE.name());
+		
+		try {
+			return WireFormat.valueOf(format.toUpperCase());
+		} catch (IllegalArgumentException e) {
+			return JSON;
+		}
+	}
+	
+	/**
+	 * Retrieve the format of an inbound frame from its content-type, JSON is used when the type is unknown
+	 * @param contentType content-type header of the frame
+	 * @return Format of the frame
+	 */
+	public static WireFormat fromContentType(MimeType contentType) {
+		if(contentType != null && SMILE.mimeType.equalsTypeAndSubtype(contentType)) {
+			return SMILE;
+		}
+		
+		return JSON;
+	}
+	
+	/**
+	 * Retrieve the format used to send the frames of a session
+	 * @param session Session used to send the frames
+	 * @return Format negotiated for the session, JSON when nothing has been negotiated
+	 */
+	public static WireFormat of(StompSession session) {
+		WireFormat format = formats.get(session);
+		return (format != null) ? format : JSON;
+	}
+	
+	/**
+	 * Add the list of the formats accepted by the client to the CONNECT headers
+	 * @param connectHeaders Headers of the CONNECT frame
+	 * @param preferred Format the client would like to use
+	 */
+	public static void request(StompHeaders connectHeaders, WireFormat preferred) {
+		if(preferred == JSON) {
+			connectHeaders.set(ACCEPT_HEADER, JSON.mimeType.toString());
+		} else {
+			connectHeaders.set(ACCEPT_HEADER, preferred.mimeType.toString() + "," + JSON.mimeType.toString());
+		}
+	}
+	
+	/**
+	 * Select the format of a session using the content-type header of the CONNECTED frame,
+	 * the session keeps using JSON when the Server does not choose another format
+	 * @param session Session that has been connected
+	 * @param connectedHeaders Headers of the CONNECTED frame
+	 */
+	public static void negotiate(StompSession session, StompHeaders connectedHeaders) {
+		WireFormat format = WireFormat.fromContentType(connectedHeaders.getContentType());
+		formats.put(session, format);
+		
+		ConnectionLog.info("wire format " + format);
+	}
+}
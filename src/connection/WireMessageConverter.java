@@ -0,0 +1,47 @@
+package connection;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.AbstractMessageConverter;
+
+/**
+ * Message converter that moves the payloads as raw bytes, whatever their content-type,
+ * so that they can be decoded according to their WireFormat
+ */
+public class WireMessageConverter extends AbstractMessageConverter {
+	public WireMessageConverter() {
+		super(WireFormat.JSON.getMimeType(), WireFormat.SMILE.getMimeType());
+	}
+	
+	@Override
+	protected boolean supports(Class<?> type) {
+		return type == byte[].class || type == String.class;
+	}
+	
+	@Override
+	protected boolean supportsMimeType(MessageHeaders headers) {
+		return true;
+	}
+	
+	@Override
+	protected Object convertFromInternal(Message<?> message, Class<?> targetClass, Object conversionHint) {
+		byte[] payload = (byte[]) message.getPayload();
+		
+		if(targetClass == String.class) {
+			return new String(payload, StandardCharsets.UTF_8);
+		}
+		
+		return payload;
+	}
+	
+	@Override
+	protected Object convertToInternal(Object payload, MessageHeaders headers, Object conversionHint) {
+		if(payload instanceof String) {
+			return ((String) payload).getBytes(StandardCharsets.UTF_8);
+		}
+		
+		return payload;
+	}
+}
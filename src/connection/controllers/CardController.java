@@ -4,6 +4,7 @@ import java.util.HashMap;
 
 import org.springframework.messaging.simp.stomp.StompSession;
 
+import connection.CommandQueue;
 import connection.Request;
 import connection.Response;
 import game.Launcher;
@@ -35,7 +36,8 @@ public class CardController {
 		request.addField("user_token", this.user_token);
 		request.addField("game_token", this.game_token);
 		request.addField("card_value", this.card_value);
-		request.sendMessage();
+		
+		CommandQueue.getQueue(session).submit("card_select:" + this.card_value, "card_unselect:" + this.card_value, request);
 		
 		/*try {
 			HashMap<String, String> response_list = response.getResponse();
@@ -61,7 +63,8 @@ public class CardController {
 		request.addField("user_token", this.user_token);
 		request.addField("game_token", this.game_token);
 		request.addField("card_value", this.card_value);
-		request.sendMessage();
+		
+		CommandQueue.getQueue(session).submit("card_unselect:" + this.card_value, "card_select:" + this.card_value, request);
 		
 		/*try {
 			HashMap<String, String> response_list = response.getResponse();
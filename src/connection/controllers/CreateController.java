@@ -3,12 +3,18 @@ package connection.controllers;
 import java.io.UnsupportedEncodingException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.springframework.messaging.simp.stomp.StompSession;
 
+import connection.FramePipeline;
 import connection.Request;
 import connection.Response;
+import connection.ResponseException;
+import connection.ResponseRouter;
+import connection.messages.GameListMessage;
+import connection.messages.GameReply;
 import game.Launcher;
 
 public class CreateController {
@@ -25,38 +31,43 @@ public class CreateController {
 	}
 	
 	public boolean sendCreate() {
+		return this.sendCreateAsync(Response.CALLER).handle((result, exception) -> exception == null).join();
+	}
+	
+	public CompletableFuture<String> sendCreateAsync() {
+		return this.sendCreateAsync(Response.getExecutor());
+	}
+	
+	public CompletableFuture<String> sendCreateAsync(Executor executor) {
 		String sessionID = session.getSessionId();
 		
-		Response response = new Response(session, "/response/game/create/" + sessionID);
+		Response<GameReply> response = new Response<>(session, "/response/game/create/" + sessionID, GameReply.class);
 		
-		Response responseList = new Response(session, "/response/game/list/" + user_token, new Object() {
-			public synchronized void execute(HashMap<String, String> response_list) {
-				if(response_list.get("game_start").equals("true")) {
-					CreateController.this.getLauncher().startGame(response_list);
+		FramePipeline<GameListMessage> listPipeline = new FramePipeline<GameListMessage>(GameListMessage.class)
+			.apply(response_list -> {
+				if("true".equals(response_list.get("game_start"))) {
+					this.getLauncher().startGame(response_list);
 				} else {
-					CreateController.this.getLauncher().updateList(response_list);
+					this.getLauncher().updateList(response_list);
 				}
-			}
-		});
+			});
+		
+		ResponseRouter.getRouter(session).listen("/response/game/list/" + user_token, listPipeline);
 		
 		Request request = new Request(session, "/app/game/create/" + sessionID);
 		request.addField("user_token", this.user_token);
-		request.sendMessage();
 		
-		try {
-			HashMap<String, String> response_list = response.getResponse();
+		return response.send(request).thenApplyAsync(reply -> {
+			Response.checkStatus(reply);
+			
+			this.launcher.setGameToken(reply.getGameToken());
 			
-			if(response_list.get("status").equals("success")) {
-				this.launcher.setGameToken(response_list.get("game_token"));
-				return true;
-			} else {
-				this.error_message = response_list.get("error_message");
+			return reply.getGameToken();
+		}, executor).whenComplete((result, exception) -> {
+			if(exception != null) {
+				this.error_message = ResponseException.getError(exception);
 			}
-		} catch (Exception e) {
-			this.error_message = e.getMessage();
-		}
-		
-		return false;
+		});
 	}
 	
 	public Launcher getLauncher() {
@@ -1,11 +1,17 @@
 package connection.controllers;
 
-import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.springframework.messaging.simp.stomp.StompSession;
 
+import connection.FramePipeline;
 import connection.Request;
 import connection.Response;
+import connection.ResponseException;
+import connection.ResponseRouter;
+import connection.messages.GameListMessage;
+import connection.messages.GameReply;
 import game.Launcher;
 
 public class JoinController {
@@ -24,39 +30,44 @@ public class JoinController {
 	}
 	
 	public boolean sendJoin() {
+		return this.sendJoinAsync(Response.CALLER).handle((result, exception) -> exception == null).join();
+	}
+	
+	public CompletableFuture<String> sendJoinAsync() {
+		return this.sendJoinAsync(Response.getExecutor());
+	}
+	
+	public CompletableFuture<String> sendJoinAsync(Executor executor) {
 		String sessionID = session.getSessionId();
 		
-		Response response = new Response(session, "/response/game/join/" + sessionID);
+		Response<GameReply> response = new Response<>(session, "/response/game/join/" + sessionID, GameReply.class);
 		
-		Response responseList = new Response(session, "/response/game/list/" + user_token, new Object() {
-			public void execute(HashMap<String, String> response_list) {
-				if(response_list.get("game_start").equals("true")) {
-					JoinController.this.getLauncher().startGame(response_list);
+		FramePipeline<GameListMessage> listPipeline = new FramePipeline<GameListMessage>(GameListMessage.class)
+			.apply(response_list -> {
+				if("true".equals(response_list.get("game_start"))) {
+					this.getLauncher().startGame(response_list);
 				} else {
-					JoinController.this.getLauncher().updateList(response_list);
+					this.getLauncher().updateList(response_list);
 				}
-			}
-		});
+			});
+		
+		ResponseRouter.getRouter(session).listen("/response/game/list/" + user_token, listPipeline);
 		
 		Request request = new Request(session, "/app/game/join/" + sessionID);
 		request.addField("user_token", this.user_token);
 		request.addField("game_token", this.game_token);
-		request.sendMessage();
-
-		try {
-			HashMap<String, String> response_list = response.getResponse();
+		
+		return response.send(request).thenApplyAsync(reply -> {
+			Response.checkStatus(reply);
 			
-			if(response_list.get("status").equals("success")) {
-				this.launcher.setGameToken(response_list.get("game_token"));
-				return true;
-			} else {
-				this.error_message = response_list.get("error_message");
+			this.launcher.setGameToken(reply.getGameToken());
+			
+			return reply.getGameToken();
+		}, executor).whenComplete((result, exception) -> {
+			if(exception != null) {
+				this.error_message = ResponseException.getError(exception);
 			}
-		} catch (Exception e) {
-			this.error_message = e.getMessage();
-		}
-		
-		return false;
+		});
 	}
 	
 	public Launcher getLauncher() {
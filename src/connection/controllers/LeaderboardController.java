@@ -5,11 +5,15 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.springframework.messaging.simp.stomp.StompSession;
 
 import connection.Request;
 import connection.Response;
+import connection.ResponseException;
+import connection.messages.LeaderboardMessage;
 import game.Launcher;
 
 public class LeaderboardController {
@@ -29,36 +33,34 @@ public class LeaderboardController {
 	}
 	
 	public boolean sendUpdate() {
+		return this.sendUpdateAsync(Response.CALLER).handle((result, exception) -> exception == null).join();
+	}
+	
+	public CompletableFuture<LinkedHashMap<String, Integer>> sendUpdateAsync() {
+		return this.sendUpdateAsync(Response.getExecutor());
+	}
+	
+	public CompletableFuture<LinkedHashMap<String, Integer>> sendUpdateAsync(Executor executor) {
 		String sessionID = session.getSessionId();
 		
-		Response response = new Response(session, "/response/leaderboard/" + sessionID);
+		Response<LeaderboardMessage> response = new Response<>(session, "/response/leaderboard/" + sessionID, LeaderboardMessage.class);
+		response.setIdempotent(true);
 		
 		Request request = new Request(session, "/app/leaderboard/" + sessionID);
 		request.addField("user_token", this.user_token);
-		request.sendMessage();
 		
-		try {
-			HashMap<String, String> response_list = response.getResponse();
+		return response.send(request).thenApplyAsync(reply -> {
+			Response.checkStatus(reply);
+			
+			LinkedHashMap<String, Integer> leaderboard_list = reply.getList();
+			this.leaderboard_list = leaderboard_list;
 			
-			if(response_list.get("status").equals("success")) {
-				int list_size = Integer.parseInt(response_list.get("list_size"));
-				
-				for(int index = 1; index <= list_size; index++) {
-					String username = response_list.get("list_username_" + index);
-					Integer score = Integer.parseInt(response_list.get("list_score_" + index));
-					
-					this.leaderboard_list.put(username, score);
-				}
-				
-				return true;
-			} else {
-				this.error_message = response_list.get("error_message");
+			return leaderboard_list;
+		}, executor).whenComplete((result, exception) -> {
+			if(exception != null) {
+				this.error_message = ResponseException.getError(exception);
 			}
-		} catch (Exception e) {
-			this.error_message = e.getMessage();
-		}
-		
-		return false;
+		});
 	}
 	
 	public LinkedHashMap<String, Integer> getList() {
@@ -4,11 +4,15 @@ import java.io.UnsupportedEncodingException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.springframework.messaging.simp.stomp.StompSession;
 
 import connection.Request;
 import connection.Response;
+import connection.ResponseException;
+import connection.messages.LoginReply;
 
 public class LoginController {
 	private final StompSession session;
@@ -26,30 +30,34 @@ public class LoginController {
 	}
 	
 	public boolean sendLogin() {
+		return this.sendLoginAsync(Response.CALLER).handle((result, exception) -> exception == null).join();
+	}
+	
+	public CompletableFuture<LoginController> sendLoginAsync() {
+		return this.sendLoginAsync(Response.getExecutor());
+	}
+	
+	public CompletableFuture<LoginController> sendLoginAsync(Executor executor) {
 		String sessionID = session.getSessionId();
 		
-		Response response = new Response(session, "/response/login/" + sessionID);
+		Response<LoginReply> response = new Response<>(session, "/response/login/" + sessionID, LoginReply.class);
 		
 		Request request = new Request(session, "/app/login/" + sessionID);
 		request.addField("username", this.username);
 		request.addField("password", this.password_hash);
-		request.sendMessage();
 		
-		try {
-			HashMap<String, String> response_list = response.getResponse();
+		return response.send(request).thenApplyAsync(reply -> {
+			Response.checkStatus(reply);
+			
+			this.user_token = reply.getUserToken();
+			this.user_name = reply.getUsername();
 			
-			if(response_list.get("status").equals("success")) {
-				this.user_token = response_list.get("user_token");
-				this.user_name = response_list.get("user_name");
-				return true;
-			} else {
-				this.error_message = response_list.get("error_message");
+			return this;
+		}, executor).whenComplete((result, exception) -> {
+			if(exception != null) {
+				this.error_message = ResponseException.getError(exception);
 			}
-		} catch (Exception e) {
-			this.error_message = e.getMessage();
-		}
-		
-		return false;
+		});
 	}
 	
 	public String getToken() {
@@ -1,11 +1,15 @@
 package connection.controllers;
 
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.springframework.messaging.simp.stomp.StompSession;
 
 import connection.Request;
 import connection.Response;
+import connection.ResponseException;
+import connection.messages.Reply;
 import game.Launcher;
 
 public class MessageController {
@@ -28,29 +32,32 @@ public class MessageController {
 	}
 	
 	public boolean sendMessage() {
+		return this.sendMessageAsync(Response.CALLER).handle((result, exception) -> exception == null).join();
+	}
+	
+	public CompletableFuture<Void> sendMessageAsync() {
+		return this.sendMessageAsync(Response.getExecutor());
+	}
+	
+	public CompletableFuture<Void> sendMessageAsync(Executor executor) {
 		String sessionID = session.getSessionId();
 		
-		Response response = new Response(session, "/response/game/message/" + sessionID);
+		Response<Reply> response = new Response<>(session, "/response/game/message/" + sessionID, Reply.class);
 		
 		Request request = new Request(session, "/app/game/message/" + sessionID);
 		request.addField("user_token", this.user_token);
 		request.addField("game_token", this.game_token);
 		request.addField("user_message", this.user_message);
-		request.sendMessage();
 		
-		try {
-			HashMap<String, String> response_list = response.getResponse();
+		return response.send(request).<Void>thenApplyAsync(reply -> {
+			Response.checkStatus(reply);
 			
-			if(response_list.get("status").equals("success")) {
-				return true;
-			} else {
-				this.error_message = response_list.get("error_message");
+			return null;
+		}, executor).whenComplete((result, exception) -> {
+			if(exception != null) {
+				this.error_message = ResponseException.getError(exception);
 			}
-		} catch (Exception e) {
-			this.error_message = e.getMessage();
-		}
-		
-		return false;
+		});
 	}
 	
 	public Launcher getLauncher() {
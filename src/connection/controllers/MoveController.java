@@ -1,11 +1,16 @@
 package connection.controllers;
 
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.springframework.messaging.simp.stomp.StompSession;
 
 import connection.Request;
 import connection.Response;
+import connection.ResponseException;
+import connection.ResponseRouter;
+import connection.messages.MoveReply;
 import game.Launcher;
 
 public class MoveController {
@@ -30,42 +35,47 @@ public class MoveController {
 	}
 	
 	public boolean sendMove() {
+		return this.sendMoveAsync(Response.CALLER).handle((result, exception) -> exception == null).join();
+	}
+	
+	public CompletableFuture<Void> sendMoveAsync() {
+		return this.sendMoveAsync(Response.getExecutor());
+	}
+	
+	public CompletableFuture<Void> sendMoveAsync(Executor executor) {
 		String sessionID = session.getSessionId();
 		
-		Response response = new Response(session, "/response/game/move/" + sessionID);
+		Response<MoveReply> response = new Response<>(session, "/response/game/move/" + sessionID, MoveReply.class);
 		
 		Request request = new Request(session, "/app/game/move/" + sessionID);
 		request.addField("user_token", this.user_token);
 		request.addField("game_token", this.game_token);
 		request.addField("cell_index", Integer.toString(this.cell_index));
 		request.addField("cell_type", this.cell_type);
-		request.sendMessage();
 		
-		try {
-			HashMap<String, String> response_list = response.getResponse();
+		ResponseRouter router = ResponseRouter.getRouter(session);
+		
+		return router.<MoveReply, Void>inOrder("game:" + this.game_token, response.send(request), reply -> {
+			Response.checkStatus(reply);
 			
-			if(response_list.get("status").equals("success")) {
-				if(response_list.containsKey("card_add")) {
-					MoveController.this.getLauncher().updateCard("add", response_list.get("card_add"));
-				}
-				
-				if(response_list.containsKey("card_remove")) {
-					MoveController.this.getLauncher().updateCard("remove", response_list.get("card_remove"));
-				}
-				
-				if(response_list.containsKey("card_add") || response_list.containsKey("card_remove")) {
-					MoveController.this.getLauncher().updateCards();
-				}
-				
-				return true;
-			} else {
-				this.error_message = response_list.get("error_message");
+			if(reply.getCardAdd() != null) {
+				this.getLauncher().updateCard("add", reply.getCardAdd());
 			}
-		} catch (Exception e) {
-			this.error_message = e.getMessage();
-		}
-		
-		return false;
+			
+			if(reply.getCardRemove() != null) {
+				this.getLauncher().updateCard("remove", reply.getCardRemove());
+			}
+			
+			if(reply.hasCardChange()) {
+				this.getLauncher().updateCards();
+			}
+			
+			return null;
+		}, executor).whenComplete((result, exception) -> {
+			if(exception != null) {
+				this.error_message = ResponseException.getError(exception);
+			}
+		});
 	}
 	
 	public Launcher getLauncher() {
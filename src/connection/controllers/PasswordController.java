@@ -4,11 +4,15 @@ import java.io.UnsupportedEncodingException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.springframework.messaging.simp.stomp.StompSession;
 
 import connection.Request;
 import connection.Response;
+import connection.ResponseException;
+import connection.messages.Reply;
 import game.Launcher;
 
 public class PasswordController {
@@ -25,28 +29,31 @@ public class PasswordController {
 	}
 	
 	public boolean sendPassword() {
+		return this.sendPasswordAsync(Response.CALLER).handle((result, exception) -> exception == null).join();
+	}
+	
+	public CompletableFuture<Void> sendPasswordAsync() {
+		return this.sendPasswordAsync(Response.getExecutor());
+	}
+	
+	public CompletableFuture<Void> sendPasswordAsync(Executor executor) {
 		String sessionID = session.getSessionId();
 		
-		Response response = new Response(session, "/response/password/" + sessionID);
+		Response<Reply> response = new Response<>(session, "/response/password/" + sessionID, Reply.class);
 		
 		Request request = new Request(session, "/app/password/" + sessionID);
 		request.addField("user_token", this.user_token);
 		request.addField("password", this.password_hash);
-		request.sendMessage();
 		
-		try {
-			HashMap<String, String> response_list = response.getResponse();
+		return response.send(request).<Void>thenApplyAsync(reply -> {
+			Response.checkStatus(reply);
 			
-			if(response_list.get("status").equals("success")) {
-				return true;
-			} else {
-				this.error_message = response_list.get("error_message");
+			return null;
+		}, executor).whenComplete((result, exception) -> {
+			if(exception != null) {
+				this.error_message = ResponseException.getError(exception);
 			}
-		} catch (Exception e) {
-			this.error_message = e.getMessage();
-		}
-		
-		return false;
+		});
 	}
 	
 	public String getError() {
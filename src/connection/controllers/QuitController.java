@@ -1,11 +1,16 @@
 package connection.controllers;
 
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.springframework.messaging.simp.stomp.StompSession;
 
 import connection.Request;
 import connection.Response;
+import connection.ResponseException;
+import connection.ResponseRouter;
+import connection.messages.Reply;
 import game.Launcher;
 
 public class QuitController {
@@ -24,28 +29,33 @@ public class QuitController {
 	}
 	
 	public boolean sendQuit() {
+		return this.sendQuitAsync(Response.CALLER).handle((result, exception) -> exception == null).join();
+	}
+	
+	public CompletableFuture<Void> sendQuitAsync() {
+		return this.sendQuitAsync(Response.getExecutor());
+	}
+	
+	public CompletableFuture<Void> sendQuitAsync(Executor executor) {
 		String sessionID = session.getSessionId();
 		
-		Response response = new Response(session, "/response/game/quit/" + sessionID);
+		Response<Reply> response = new Response<>(session, "/response/game/quit/" + sessionID, Reply.class);
 		
 		Request request = new Request(session, "/app/game/quit/" + sessionID);
 		request.addField("user_token", this.user_token);
 		request.addField("game_token", this.game_token);
-		request.sendMessage();
-
-		try {
-			HashMap<String, String> response_list = response.getResponse();
+		
+		ResponseRouter router = ResponseRouter.getRouter(session);
+		
+		return router.<Reply, Void>inOrder("game:" + this.game_token, response.send(request), reply -> {
+			Response.checkStatus(reply);
 			
-			if(response_list.get("status").equals("success")) {
-				return true;
-			} else {
-				this.error_message = response_list.get("error_message");
+			return null;
+		}, executor).whenComplete((result, exception) -> {
+			if(exception != null) {
+				this.error_message = ResponseException.getError(exception);
 			}
-		} catch (Exception e) {
-			this.error_message = e.getMessage();
-		}
-		
-		return false;
+		});
 	}
 	
 	public Launcher getLauncher() {
@@ -4,6 +4,7 @@ import java.util.HashMap;
 
 import org.springframework.messaging.simp.stomp.StompSession;
 
+import connection.CommandQueue;
 import connection.Request;
 import connection.Response;
 import game.Launcher;
@@ -31,7 +32,8 @@ public class RollController {
 		Request request = new Request(session, "/app/game/roll/" + sessionID);
 		request.addField("user_token", this.user_token);
 		request.addField("game_token", this.game_token);
-		request.sendMessage();
+		
+		CommandQueue.getQueue(session).submit("roll", request);
 		
 		/*try {
 			HashMap<String, String> response_list = response.getResponse();
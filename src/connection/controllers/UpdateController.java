@@ -4,17 +4,36 @@ import java.io.UnsupportedEncodingException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.springframework.messaging.simp.stomp.StompSession;
 
+import connection.ControllerExecutor;
+import connection.FramePipeline;
+import connection.InboundQueue;
+import connection.ReconnectingSession;
 import connection.Request;
-import connection.Response;
+import connection.ResponseRouter;
+import connection.messages.ChatMessage;
+import connection.messages.DiceMessage;
+import connection.messages.MoveMessage;
+import connection.messages.TurnMessage;
+import connection.messages.UpdateMessage;
 import game.Launcher;
 
 public class UpdateController {
+	public static final String RESUME_PROPERTY = "losttreasure.resume-events";
+	
+	private static final AtomicInteger queue_counter = new AtomicInteger();
+	
 	private final Launcher launcher;
 	private final StompSession session;
 	private final String user_token;
+	private final AtomicLong last_seq;
+	private final AtomicLong last_chat_seq;
+	private final InboundQueue<UpdateMessage> events;
+	private volatile boolean closed;
 	
 	private String error_message;
 	
@@ -22,56 +41,146 @@ public class UpdateController {
 		this.launcher = launcher;
 		this.session = session;
 		this.user_token = user_token;
+		this.last_seq = new AtomicLong();
+		this.last_chat_seq = new AtomicLong();
+		
+		FramePipeline<UpdateMessage> gamePipeline = new FramePipeline<UpdateMessage>(UpdateMessage.class)
+			.validate(update -> !this.getLauncher().isFinished())
+			.apply(TurnMessage.class, this::updateTurn)
+			.apply(DiceMessage.class, this::updateDice)
+			.apply(MoveMessage.class, this::updateMove);
+		
+		// The events are never dropped: last_seq is the highest applied event, so an event dropped before
+		// a later one is applied would be lost even for a resume
+		int capacity = Integer.getInteger(InboundQueue.CAPACITY_PROPERTY, 1024);
+		this.events = new InboundQueue<UpdateMessage>("game-update-" + queue_counter.incrementAndGet(), capacity, InboundQueue.OverflowPolicy.BLOCK, update -> {
+			// An event sent again by a resume can be queued while its first copy is still waiting
+			if(!this.isNewEvent(update)) {
+				return;
+			}
+			
+			gamePipeline.process(update);
+			this.markApplied(update);
+		});
 		
 		this.retrieveUpdate();
+		
+		// Only a Server that numbers the events (event_seq) and serves /app/game/resume can send the lost ones again
+		if(session instanceof ReconnectingSession && Boolean.getBoolean(RESUME_PROPERTY)) {
+			((ReconnectingSession) session).addReconnectListener(old_session_id -> this.resumeUpdate());
+		}
 	}
 	
+	/**
+	 * Function used to listen to the game events, the chat messages are shown right away while the
+	 * other events are applied in order by the consumer of the event queue
+	 */
 	public void retrieveUpdate() {
-		new Response(session, "/response/game/update/" + user_token, new Object() {
-			public synchronized void execute(HashMap<String, String> response_list) {
-				boolean check_finished = UpdateController.this.getLauncher().isFinished();
-				
-				if(!check_finished) {
-					if(response_list.get("method").equals("turn")) {
-						int user_index = Integer.parseInt(response_list.get("turn_index"));
-						UpdateController.this.getLauncher().updateTurn(user_index);
-					} else if(response_list.get("method").equals("dice")) {
-						int dice = Integer.parseInt(response_list.get("dice"));
-						int turn_index = Integer.parseInt(response_list.get("turn_index"));
-						boolean can_move = Boolean.parseBoolean(response_list.get("can_move"));
-						UpdateController.this.getLauncher().updateDices(dice, turn_index, can_move);
-					} else if(response_list.get("method").equals("move")) {
-						int turn_index = Integer.parseInt(response_list.get("turn_index"));
-						int archeologist_index = Integer.parseInt(response_list.get("archeologist_index"));
-						int cell_index = Integer.parseInt(response_list.get("cell_index"));
-						String cell_type = response_list.get("cell_type");
-						UpdateController.this.getLauncher().updateArcheologist(turn_index, archeologist_index, cell_index, cell_type);
-					
-						if(response_list.get("kill_status").equals("true")) {
-							int kill_user_index = Integer.parseInt(response_list.get("kill_user_index"));
-							int kill_archeologist_index = Integer.parseInt(response_list.get("kill_archeologist_index"));
-							
-							UpdateController.this.getLauncher().updateKill(kill_user_index, kill_archeologist_index);
-						}
-						
-						if(response_list.get("user_won").equals("true")) {
-							int won_index = Integer.parseInt(response_list.get("won_index"));
-							boolean is_finished = Boolean.parseBoolean(response_list.get("is_finished"));
-							
-							UpdateController.this.getLauncher().updateWon(turn_index, won_index, is_finished);
-						}
+		FramePipeline<UpdateMessage> pipeline = new FramePipeline<UpdateMessage>(UpdateMessage.class)
+			.validate(this::isNewEvent)
+			.apply(update -> {
+				if(update instanceof ChatMessage) {
+					if(this.isNewChat(update)) {
+						ControllerExecutor.EDT.execute(() -> this.updateMessage((ChatMessage) update));
 					}
+				} else {
+					this.events.offer(update);
 				}
-				
-				if(response_list.get("method").equals("message")) {
-					int user_index = Integer.parseInt(response_list.get("user_index"));
-					String user_name = response_list.get("user_name");
-					String user_message = response_list.get("user_message");
-					
-					UpdateController.this.getLauncher().updateMessage(user_index, user_name, user_message);
-				}
-			}
-		});
+			});
+		
+		ResponseRouter.getRouter(session).listen("/response/game/update/" + user_token, pipeline);
+	}
+	
+	/**
+	 * Function used to stop applying the game events
+	 */
+	public void close() {
+		ResponseRouter.getRouter(session).unsubscribe("/response/game/update/" + user_token);
+		this.closed = true;
+		this.events.close();
+	}
+	
+	public InboundQueue<UpdateMessage> getEvents() {
+		return this.events;
+	}
+	
+	/**
+	 * Function used to ask the Server for the events lost while the connection was down, it is called after
+	 * every reconnection when losttreasure.resume-events is true: the Server has to number the events with
+	 * event_seq and send again the ones after last_seq when it receives /app/game/resume
+	 */
+	public void resumeUpdate() {
+		String game_token = this.getLauncher().getGameToken();
+		
+		if(this.closed || game_token == null) {
+			return;
+		}
+		
+		Request request = new Request(session, "/app/game/resume/" + session.getSessionId());
+		request.addField("user_token", this.user_token);
+		request.addField("game_token", game_token);
+		request.addField("last_seq", Long.toString(this.last_seq.get()));
+		request.sendMessage();
+	}
+	
+	/**
+	 * Function used to drop the events already applied, e.g. the ones sent again after a resume
+	 * @param update Event received from the Server
+	 * @return true if the event has not been applied yet
+	 */
+	private boolean isNewEvent(UpdateMessage update) {
+		long event_seq = update.getEventSeq();
+		
+		return event_seq <= 0 || event_seq > this.last_seq.get();
+	}
+	
+	/**
+	 * Function used to drop the chat messages already shown, they are not counted in last_seq
+	 * because they are shown before the events queued ahead of them are applied
+	 * @param update Chat message received from the Server
+	 * @return true if the message has not been shown yet
+	 */
+	private boolean isNewChat(UpdateMessage update) {
+		long event_seq = update.getEventSeq();
+		
+		return event_seq <= 0 || this.last_chat_seq.getAndAccumulate(event_seq, Math::max) < event_seq;
+	}
+	
+	/**
+	 * Function used to advance last_seq once an event has been applied by the consumer of the event queue,
+	 * the events still queued when the connection drops are then sent again by a resume
+	 * @param update Event applied
+	 */
+	private void markApplied(UpdateMessage update) {
+		long event_seq = update.getEventSeq();
+		
+		if(event_seq > 0) {
+			this.last_seq.accumulateAndGet(event_seq, Math::max);
+		}
+	}
+	
+	private void updateTurn(TurnMessage turn) {
+		this.getLauncher().updateTurn(turn.getTurnIndex());
+	}
+	
+	private void updateDice(DiceMessage dice) {
+		this.getLauncher().updateDices(dice.getDice(), dice.getTurnIndex(), dice.canMove());
+	}
+	
+	private void updateMove(MoveMessage move) {
+		this.getLauncher().updateArcheologist(move.getTurnIndex(), move.getArcheologistIndex(), move.getCellIndex(), move.getCellType());
+		
+		if(move.hasKill()) {
+			this.getLauncher().updateKill(move.getKillUserIndex(), move.getKillArcheologistIndex());
+		}
+		
+		if(move.hasWon()) {
+			this.getLauncher().updateWon(move.getTurnIndex(), move.getWonIndex(), move.isFinished());
+		}
+	}
+	
+	private void updateMessage(ChatMessage message) {
+		this.getLauncher().updateMessage(message.getUserIndex(), message.getUsername(), message.getMessage());
 	}
 	
 	public Launcher getLauncher() {
@@ -4,11 +4,15 @@ import java.io.UnsupportedEncodingException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.springframework.messaging.simp.stomp.StompSession;
 
 import connection.Request;
 import connection.Response;
+import connection.ResponseException;
+import connection.messages.UsernameReply;
 import game.Launcher;
 
 public class UsernameController {
@@ -27,30 +31,34 @@ public class UsernameController {
 	}
 	
 	public boolean sendUsername() {
+		return this.sendUsernameAsync(Response.CALLER).handle((result, exception) -> exception == null).join();
+	}
+	
+	public CompletableFuture<UsernameController> sendUsernameAsync() {
+		return this.sendUsernameAsync(Response.getExecutor());
+	}
+	
+	public CompletableFuture<UsernameController> sendUsernameAsync(Executor executor) {
 		String sessionID = session.getSessionId();
 		
-		Response response = new Response(session, "/response/username/" + sessionID);
+		Response<UsernameReply> response = new Response<>(session, "/response/username/" + sessionID, UsernameReply.class);
 		
 		Request request = new Request(session, "/app/username/" + sessionID);
 		request.addField("username", this.username);
 		request.addField("user_token", this.user_token);
-		request.sendMessage();
 		
-		try {
-			HashMap<String, String> response_list = response.getResponse();
+		return response.send(request).thenApplyAsync(reply -> {
+			Response.checkStatus(reply);
+			
+			this.username = reply.getUsername();
+			this.user_token = reply.getUserToken();
 			
-			if(response_list.get("status").equals("success")) {
-				this.username = response_list.get("username");
-				this.user_token = response_list.get("user_token");
-				return true;
-			} else {
-				this.error_message = response_list.get("error_message");
+			return this;
+		}, executor).whenComplete((result, exception) -> {
+			if(exception != null) {
+				this.error_message = ResponseException.getError(exception);
 			}
-		} catch (Exception e) {
-			this.error_message = e.getMessage();
-		}
-		
-		return false;
+		});
 	}
 	
 	public String getToken() {
@@ -0,0 +1,22 @@
+package connection.messages;
+
+/**
+ * Chat message of a Player, pushed on /response/game/update with method message
+ */
+public class ChatMessage extends UpdateMessage {
+	private int user_index;
+	private String user_name;
+	private String user_message;
+	
+	public int getUserIndex() {
+		return this.user_index;
+	}
+	
+	public String getUsername() {
+		return this.user_name;
+	}
+	
+	public String getMessage() {
+		return this.user_message;
+	}
+}
@@ -0,0 +1,22 @@
+package connection.messages;
+
+/**
+ * Dice rolled by a Player, pushed on /response/game/update with method dice
+ */
+public class DiceMessage extends UpdateMessage {
+	private int dice;
+	private int turn_index;
+	private boolean can_move;
+	
+	public int getDice() {
+		return this.dice;
+	}
+	
+	public int getTurnIndex() {
+		return this.turn_index;
+	}
+	
+	public boolean canMove() {
+		return this.can_move;
+	}
+}
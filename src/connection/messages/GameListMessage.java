@@ -0,0 +1,11 @@
+package connection.messages;
+
+import java.util.HashMap;
+
+/**
+ * List of the Players of a Game, pushed on /response/game/list while the Game is waiting for them
+ * and once more with game_start true when the Game starts
+ */
+public class GameListMessage extends HashMap<String, String> {
+	private static final long serialVersionUID = 1L;
+}
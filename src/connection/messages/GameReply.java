@@ -0,0 +1,12 @@
+package connection.messages;
+
+/**
+ * Reply to the /app/game/create and /app/game/join requests
+ */
+public class GameReply extends Reply {
+	private String game_token;
+	
+	public String getGameToken() {
+		return this.game_token;
+	}
+}
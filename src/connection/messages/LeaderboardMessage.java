@@ -0,0 +1,42 @@
+package connection.messages;
+
+import java.util.LinkedHashMap;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * Reply to the /app/leaderboard request, the entries are sent as list_username_N and list_score_N
+ */
+public class LeaderboardMessage extends Reply {
+	private int list_size;
+	@JsonIgnore
+	private final TreeMap<Integer, String> usernames = new TreeMap<Integer, String>();
+	@JsonIgnore
+	private final TreeMap<Integer, Integer> scores = new TreeMap<Integer, Integer>();
+	
+	@JsonAnySetter
+	private void setEntry(String key, Object value) {
+		if(key.startsWith("list_username_")) {
+			this.usernames.put(Integer.valueOf(key.substring(14)), String.valueOf(value));
+		} else if(key.startsWith("list_score_")) {
+			int score = (value instanceof Number) ? ((Number) value).intValue() : Integer.parseInt(String.valueOf(value));
+			this.scores.put(Integer.valueOf(key.substring(11)), score);
+		}
+	}
+	
+	public int getSize() {
+		return this.list_size;
+	}
+	
+	public LinkedHashMap<String, Integer> getList() {
+		LinkedHashMap<String, Integer> leaderboard_list = new LinkedHashMap<String, Integer>();
+		
+		for(int index = 1; index <= this.list_size; index++) {
+			leaderboard_list.put(this.usernames.get(index), this.scores.get(index));
+		}
+		
+		return leaderboard_list;
+	}
+}
@@ -0,0 +1,17 @@
+package connection.messages;
+
+/**
+ * Reply to the /app/login request
+ */
+public class LoginReply extends Reply {
+	private String user_token;
+	private String user_name;
+	
+	public String getUserToken() {
+		return this.user_token;
+	}
+	
+	public String getUsername() {
+		return this.user_name;
+	}
+}
@@ -0,0 +1,59 @@
+package connection.messages;
+
+/**
+ * Move of an Archeologist, with the kill and the win it caused, pushed on /response/game/update with method move
+ */
+public class MoveMessage extends UpdateMessage {
+	private int turn_index;
+	private int archeologist_index;
+	private int cell_index;
+	private String cell_type;
+	
+	private boolean kill_status;
+	private int kill_user_index;
+	private int kill_archeologist_index;
+	
+	private boolean user_won;
+	private int won_index;
+	private boolean is_finished;
+	
+	public int getTurnIndex() {
+		return this.turn_index;
+	}
+	
+	public int getArcheologistIndex() {
+		return this.archeologist_index;
+	}
+	
+	public int getCellIndex() {
+		return this.cell_index;
+	}
+	
+	public String getCellType() {
+		return this.cell_type;
+	}
+	
+	public boolean hasKill() {
+		return this.kill_status;
+	}
+	
+	public int getKillUserIndex() {
+		return this.kill_user_index;
+	}
+	
+	public int getKillArcheologistIndex() {
+		return this.kill_archeologist_index;
+	}
+	
+	public boolean hasWon() {
+		return this.user_won;
+	}
+	
+	public int getWonIndex() {
+		return this.won_index;
+	}
+	
+	public boolean isFinished() {
+		return this.is_finished;
+	}
+}
@@ -0,0 +1,21 @@
+package connection.messages;
+
+/**
+ * Reply to the /app/game/move request, with the cards gained or used by the move
+ */
+public class MoveReply extends Reply {
+	private String card_add;
+	private String card_remove;
+	
+	public String getCardAdd() {
+		return this.card_add;
+	}
+	
+	public String getCardRemove() {
+		return this.card_remove;
+	}
+	
+	public boolean hasCardChange() {
+		return this.card_add != null || this.card_remove != null;
+	}
+}
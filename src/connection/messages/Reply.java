@@ -0,0 +1,26 @@
+package connection.messages;
+
+/**
+ * Reply sent by the Server to a single Request
+ */
+public class Reply {
+	private String status;
+	private String error_message;
+	private String request_id;
+	
+	public boolean isSuccess() {
+		return "success".equals(this.status);
+	}
+	
+	public String getStatus() {
+		return this.status;
+	}
+	
+	public String getError() {
+		return this.error_message;
+	}
+	
+	public String getRequestId() {
+		return this.request_id;
+	}
+}
@@ -0,0 +1,12 @@
+package connection.messages;
+
+/**
+ * Change of turn, pushed on /response/game/update with method turn
+ */
+public class TurnMessage extends UpdateMessage {
+	private int turn_index;
+	
+	public int getTurnIndex() {
+		return this.turn_index;
+	}
+}
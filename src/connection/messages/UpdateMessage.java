@@ -0,0 +1,31 @@
+package connection.messages;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * Game event pushed on /response/game/update, the method field selects the event type
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.EXISTING_PROPERTY, property = "method", visible = true)
+@JsonSubTypes({
+	@JsonSubTypes.Type(value = TurnMessage.class, name = "turn"),
+	@JsonSubTypes.Type(value = DiceMessage.class, name = "dice"),
+	@JsonSubTypes.Type(value = MoveMessage.class, name = "move"),
+	@JsonSubTypes.Type(value = ChatMessage.class, name = "message")
+})
+public abstract class UpdateMessage {
+	private String method;
+	private long event_seq;
+	
+	public String getMethod() {
+		return this.method;
+	}
+	
+	/**
+	 * Function used to get the sequence number of the event in its game
+	 * @return sequence number of the event, 0 when the Server does not number the events
+	 */
+	public long getEventSeq() {
+		return this.event_seq;
+	}
+}
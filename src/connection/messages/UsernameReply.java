@@ -0,0 +1,17 @@
+package connection.messages;
+
+/**
+ * Reply to the /app/username request
+ */
+public class UsernameReply extends Reply {
+	private String username;
+	private String user_token;
+	
+	public String getUsername() {
+		return this.username;
+	}
+	
+	public String getUserToken() {
+		return this.user_token;
+	}
+}
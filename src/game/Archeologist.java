@@ -8,12 +8,8 @@ import java.awt.Point;
 import java.awt.RenderingHints;
 import java.awt.Shape;
 import java.awt.geom.Ellipse2D;
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.HashMap;
 
-import javax.imageio.ImageIO;
-import javax.swing.ImageIcon;
 import javax.swing.JPanel;
 
 /**
@@ -35,7 +31,7 @@ public class Archeologist extends JPanel {
         put('Y', "yellow");
     }};
 	
-	private ImageIcon playerIcon;
+	private ScaledImage playerIcon;
 	
 	private final int archeologistCode;
 	private final CellColor archeologistColor;
@@ -66,12 +62,7 @@ public class Archeologist extends JPanel {
 		this.player = player;
 		this.playerCode = player.getCode();
 		
-		try {
-        	InputStream stream = getClass().getResourceAsStream("/user-" + this.playerNames.get(this.playerCode) + ".png");
-        	this.playerIcon = new ImageIcon(ImageIO.read(stream));
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		this.playerIcon = new ScaledImage("/user-" + this.playerNames.get(this.playerCode) + ".png");
 	}
 	
 	/**
@@ -82,7 +73,7 @@ public class Archeologist extends JPanel {
     public void paintComponent(Graphics g) {
         super.paintComponent(g);
         
-        g.drawImage(this.playerIcon.getImage(), 0, 0, this.getWidth(), this.getHeight(), null);
+        g.drawImage(this.playerIcon.getImage(this.getWidth(), this.getHeight()), 0, 0, null);
 	}
 	
 	/*
@@ -157,6 +148,14 @@ public class Archeologist extends JPanel {
 		return this.playerCode + Integer.toString(this.archeologistCode);
 	}
 	
+	/**
+	 * Get the icon of the Archeologist, scaled to the size it is drawn at
+	 * @return Icon of the Archeologist
+	 */
+	public ScaledImage getIcon() {
+		return this.playerIcon;
+	}
+	
 	/**
 	 * Get the Player that has this Archeologist
 	 * @return Player that has this Archeologist
@@ -0,0 +1,179 @@
+package game;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.awt.image.DirectColorModel;
+import java.awt.image.Raster;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.awt.image.WritableRaster;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pack of pre-decoded images written by the AssetPackBuilder: the file is memory mapped and every
+ * image is a raster over its own part of the mapping, so nothing is inflated, copied or decoded.
+ * The pack is read from the losttreasure.asset-pack property or from the assets.pack file next to
+ * the classes of the Game, without it the images are decoded from the resources
+ *
+ * Format (big endian): magic, version, count, then for each image its name (UTF-8, with a short length),
+ * width, height, flags and the offset of its ARGB pixels, which are aligned to 4 bytes
+ */
+public final class AssetPack {
+	public static final String PACK_PROPERTY = "losttreasure.asset-pack";
+	public static final String FILE_NAME = "assets.pack";
+	public static final int MAGIC = 0x4C545041;
+	public static final int VERSION = 1;
+	public static final int FLAG_ALPHA = 1;
+	
+	private static volatile AssetPack defaultPack;
+	private static volatile boolean opened = false;
+	
+	private final MappedByteBuffer buffer;
+	private final Map<String, Entry> entries;
+	
+	private AssetPack(MappedByteBuffer buffer, Map<String, Entry> entries) {
+		this.buffer = buffer;
+		this.entries = entries;
+	}
+	
+	/**
+	 * Function used to get the pack of the Game, it is opened the first time
+	 * @return the pack, null if there is no pack or it cannot be read
+	 */
+	public static AssetPack getDefault() {
+		if(!opened) {
+			synchronized(AssetPack.class) {
+				if(!opened) {
+					defaultPack = AssetPack.openDefault();
+					opened = true;
+				}
+			}
+		}
+		
+		return defaultPack;
+	}
+	
+	private static AssetPack openDefault() {
+		try {
+			Path path;
+			String property = System.getProperty(PACK_PROPERTY);
+			
+			if(property != null) {
+				path = Paths.get(property);
+			} else {
+				Path location = Paths.get(AssetPack.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+				path = location.resolveSibling(FILE_NAME);
+			}
+			
+			return Files.isRegularFile(path) ? AssetPack.open(path) : null;
+		} catch (IOException | URISyntaxException | RuntimeException e) {
+			System.out.println("Cannot open the asset pack, decoding the images: " + e.getMessage());
+			return null;
+		}
+	}
+	
+	/**
+	 * Function used to map a pack and read its offset table
+	 * @param path Path of the pack
+	 * @return the opened pack
+	 * @throws IOException if the file cannot be mapped or it is not a pack
+	 */
+	public static AssetPack open(Path path) throws IOException {
+		try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			// The mapping stays valid after the channel is closed
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			
+			if(buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+				throw new IOException("Not an asset pack: " + path);
+			}
+			
+			int count = buffer.getInt();
+			Map<String, Entry> entries = new HashMap<String, Entry>();
+			
+			for(int i = 0; i < count; i++) {
+				byte[] name = new byte[buffer.getShort()];
+				buffer.get(name);
+				
+				entries.put(new String(name, StandardCharsets.UTF_8), new Entry(buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getLong()));
+			}
+			
+			return new AssetPack(buffer, entries);
+		}
+	}
+	
+	public boolean contains(String name) {
+		return this.entries.containsKey(name);
+	}
+	
+	/**
+	 * Function used to get an image of the pack, its pixels are read from the mapping when they are drawn
+	 * @param name Name of the resource, e.g. /board.png
+	 * @return the image, null if the pack does not contain it
+	 */
+	public BufferedImage getImage(String name) {
+		Entry entry = this.entries.get(name);
+		
+		if(entry == null) {
+			return null;
+		}
+		
+		int length = entry.width * entry.height;
+		IntBuffer pixels = this.buffer.slice((int) entry.offset, length * 4).asIntBuffer();
+		
+		boolean alpha = (entry.flags & FLAG_ALPHA) != 0;
+		DirectColorModel colorModel = alpha
+			? new DirectColorModel(32, 0x00FF0000, 0x0000FF00, 0x000000FF, 0xFF000000)
+			: new DirectColorModel(24, 0x00FF0000, 0x0000FF00, 0x000000FF);
+		
+		SinglePixelPackedSampleModel sampleModel = new SinglePixelPackedSampleModel(DataBuffer.TYPE_INT, entry.width, entry.height, colorModel.getMasks());
+		WritableRaster raster = Raster.createWritableRaster(sampleModel, new MappedDataBuffer(pixels, length), null);
+		
+		return new BufferedImage(colorModel, raster, false, null);
+	}
+	
+	private static class Entry {
+		private final int width;
+		private final int height;
+		private final int flags;
+		private final long offset;
+		
+		public Entry(int width, int height, int flags, long offset) {
+			this.width = width;
+			this.height = height;
+			this.flags = flags;
+			this.offset = offset;
+		}
+	}
+	
+	/**
+	 * DataBuffer that reads the pixels straight from the mapped file, the images are shared and read only
+	 */
+	private static class MappedDataBuffer extends DataBuffer {
+		private final IntBuffer pixels;
+		
+		public MappedDataBuffer(IntBuffer pixels, int size) {
+			super(DataBuffer.TYPE_INT, size);
+			this.pixels = pixels;
+		}
+		
+		@Override
+		public int getElem(int bank, int i) {
+			return this.pixels.get(i);
+		}
+		
+		@Override
+		public void setElem(int bank, int i, int value) {
+			throw new UnsupportedOperationException("The images of the asset pack are mapped read-only");
+		}
+	}
+}
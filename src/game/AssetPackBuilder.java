@@ -0,0 +1,110 @@
+package game;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Tool run by the build after the AtlasBuilder that writes the images of the classes folder, with
+ * the atlases instead of the images they contain, in the AssetPack format
+ */
+public class AssetPackBuilder {
+	/**
+	 * @param args folder of the images and path of the pack
+	 */
+	public static void main(String[] args) throws IOException {
+		if(args.length != 2) {
+			throw new IllegalArgumentException("Usage: AssetPackBuilder <image folder> <pack file>");
+		}
+		
+		File folder = new File(args[0]);
+		Properties atlasIndex = new Properties();
+		File atlasIndexFile = new File(folder, TextureAtlas.INDEX.substring(1));
+		
+		if(atlasIndexFile.isFile()) {
+			try(InputStream stream = new FileInputStream(atlasIndexFile)) {
+				atlasIndex.load(stream);
+			}
+		}
+		
+		List<File> files = new ArrayList<File>();
+		
+		for(File file : folder.listFiles()) {
+			String name = file.getName().toLowerCase();
+			
+			if(file.isFile() && (name.endsWith(".png") || name.endsWith(".jpg")) && !atlasIndex.containsKey(file.getName())) {
+				files.add(file);
+			}
+		}
+		
+		files.sort(Comparator.comparing(File::getName));
+		
+		List<BufferedImage> images = new ArrayList<BufferedImage>();
+		List<byte[]> names = new ArrayList<byte[]>();
+		long offset = 12;
+		
+		for(File file : files) {
+			BufferedImage image = ImageIO.read(file);
+			
+			if(image == null) {
+				throw new IOException("Unsupported image: " + file);
+			}
+			
+			images.add(image);
+			names.add(("/" + file.getName()).getBytes(StandardCharsets.UTF_8));
+			offset += 2 + names.get(names.size() - 1).length + 20;
+		}
+		
+		try(DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(args[1])))) {
+			output.writeInt(AssetPack.MAGIC);
+			output.writeInt(AssetPack.VERSION);
+			output.writeInt(images.size());
+			
+			long dataStart = (offset + 3) / 4 * 4;
+			long dataOffset = dataStart;
+			
+			for(int i = 0; i < images.size(); i++) {
+				BufferedImage image = images.get(i);
+				
+				output.writeShort(names.get(i).length);
+				output.write(names.get(i));
+				output.writeInt(image.getWidth());
+				output.writeInt(image.getHeight());
+				output.writeInt(image.getColorModel().hasAlpha() ? AssetPack.FLAG_ALPHA : 0);
+				output.writeLong(dataOffset);
+				
+				dataOffset += (long) image.getWidth() * image.getHeight() * 4;
+			}
+			
+			for(long padding = offset; padding < dataStart; padding++) {
+				output.writeByte(0);
+			}
+			
+			for(BufferedImage image : images) {
+				int[] row = new int[image.getWidth()];
+				
+				for(int y = 0; y < image.getHeight(); y++) {
+					image.getRGB(0, y, image.getWidth(), 1, row, 0, image.getWidth());
+					
+					for(int pixel : row) {
+						output.writeInt(pixel);
+					}
+				}
+			}
+			
+			System.out.println("Packed " + images.size() + " images in " + args[1] + " (" + dataOffset + " bytes)");
+		}
+	}
+}
@@ -0,0 +1,160 @@
+package game;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Class used to decode the images of the Game in parallel while the loading screen is displayed,
+ * the decoded images are kept by the ImageCache so the components built later find them ready
+ */
+public class AssetPreloader {
+	private final List<String> names;
+	private final AtomicInteger loaded;
+	
+	/**
+	 * Creates a new instance of AssetPreloader for the images of the resources that have to be decoded,
+	 * the images of the AssetPack are already decoded and are copied only when they are first used
+	 */
+	public AssetPreloader() {
+		this(AssetPreloader.getDecodedNames());
+	}
+	
+	private static List<String> getDecodedNames() {
+		List<String> names = AssetPreloader.getImageNames();
+		names.removeIf(ImageCache::isMapped);
+		
+		return names;
+	}
+	
+	/**
+	 * Creates a new instance of AssetPreloader
+	 * @param names Names of the resources to decode, e.g. /board.png
+	 */
+	public AssetPreloader(List<String> names) {
+		this.names = names;
+		this.loaded = new AtomicInteger();
+	}
+	
+	/**
+	 * Function used to start decoding the images on a fork-join pool with a thread for each processor
+	 * @param progress Listener called with the number of decoded images and the total after every image
+	 * @return future completed when all the images are decoded, the images that cannot be decoded are skipped
+	 */
+	public CompletableFuture<Void> start(BiConsumer<Integer, Integer> progress) {
+		ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), forkJoinPool -> {
+			ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+			thread.setName("preload-" + thread.getPoolIndex());
+			return thread;
+		}, null, false);
+		
+		CompletableFuture<Void> future = CompletableFuture.runAsync(() -> pool.invoke(new PreloadTask(progress, 0, this.names.size())), pool);
+		future.whenComplete((result, exception) -> pool.shutdown());
+		
+		return future;
+	}
+	
+	public int getLoaded() {
+		return this.loaded.get();
+	}
+	
+	public int getTotal() {
+		return this.names.size();
+	}
+	
+	/**
+	 * Function used to find the images of the resources, both when they are in a folder and in a jar
+	 * @return names of the images, e.g. /board.png
+	 */
+	public static List<String> getImageNames() {
+		List<String> names = new ArrayList<String>();
+		
+		try {
+			Path location = Paths.get(AssetPreloader.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+			
+			if(Files.isDirectory(location)) {
+				try(DirectoryStream<Path> files = Files.newDirectoryStream(location)) {
+					for(Path file : files) {
+						String name = file.getFileName().toString();
+						
+						if(Files.isRegularFile(file) && AssetPreloader.isImage(name)) {
+							names.add("/" + name);
+						}
+					}
+				}
+			} else {
+				try(JarFile jar = new JarFile(location.toFile())) {
+					Enumeration<JarEntry> entries = jar.entries();
+					
+					while(entries.hasMoreElements()) {
+						String name = entries.nextElement().getName();
+						
+						if(!name.contains("/") && AssetPreloader.isImage(name)) {
+							names.add("/" + name);
+						}
+					}
+				}
+			}
+		} catch (IOException | URISyntaxException | RuntimeException e) {
+			e.printStackTrace();
+		}
+		
+		Collections.sort(names);
+		return names;
+	}
+	
+	private static boolean isImage(String name) {
+		String lowerName = name.toLowerCase();
+		return lowerName.endsWith(".png") || lowerName.endsWith(".jpg") || lowerName.endsWith(".jpeg");
+	}
+	
+	/**
+	 * Task that splits its range of images in two halves until a single image is left to decode
+	 */
+	private class PreloadTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		
+		private final BiConsumer<Integer, Integer> progress;
+		private final int start;
+		private final int end;
+		
+		public PreloadTask(BiConsumer<Integer, Integer> progress, int start, int end) {
+			this.progress = progress;
+			this.start = start;
+			this.end = end;
+		}
+		
+		@Override
+		protected void compute() {
+			if(this.end - this.start > 1) {
+				int middle = (this.start + this.end) / 2;
+				RecursiveAction.invokeAll(new PreloadTask(this.progress, this.start, middle), new PreloadTask(this.progress, middle, this.end));
+			} else if(this.end > this.start) {
+				String name = AssetPreloader.this.names.get(this.start);
+				
+				try {
+					ImageCache.getImage(name);
+				} catch (IOException e) {
+					System.out.println("Cannot preload " + name + ": " + e.getMessage());
+				}
+				
+				this.progress.accept(AssetPreloader.this.loaded.incrementAndGet(), AssetPreloader.this.names.size());
+			}
+		}
+	}
+}
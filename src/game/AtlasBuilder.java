@@ -0,0 +1,163 @@
+package game;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Tool run by the build (exec-maven-plugin, process-classes phase) that packs the tiles, the pieces
+ * and the cards of the resources into a few atlas images and writes the index read by the TextureAtlas
+ */
+public class AtlasBuilder {
+	private static final String[][] GROUPS = {
+		{ "atlas-tiles.png", "street-", "jungle-", "grass" },
+		{ "atlas-pieces.png", "user-" },
+		{ "atlas-cards.png", "card_" }
+	};
+	
+	private static final int MAX_WIDTH = 2048;
+	
+	private final File resourceFolder;
+	private final File outputFolder;
+	private final Map<String, String> index;
+	
+	public AtlasBuilder(File resourceFolder, File outputFolder) {
+		this.resourceFolder = resourceFolder;
+		this.outputFolder = outputFolder;
+		this.index = new TreeMap<String, String>();
+	}
+	
+	/**
+	 * @param args folder of the resources and folder where the atlases and the index are written
+	 */
+	public static void main(String[] args) throws IOException {
+		if(args.length != 2) {
+			throw new IllegalArgumentException("Usage: AtlasBuilder <resource folder> <output folder>");
+		}
+		
+		AtlasBuilder builder = new AtlasBuilder(new File(args[0]), new File(args[1]));
+		
+		for(String[] group : GROUPS) {
+			builder.pack(group[0], Arrays.copyOfRange(group, 1, group.length));
+		}
+		
+		builder.writeIndex();
+	}
+	
+	/**
+	 * Function used to pack the images whose name starts with one of the prefixes, on shelves
+	 * filled from the tallest image to the shortest one
+	 * @param atlasName Name of the atlas, the extension sets its format
+	 * @param prefixes Prefixes of the names of the images
+	 */
+	public void pack(String atlasName, String[] prefixes) throws IOException {
+		List<File> files = new ArrayList<File>();
+		
+		for(File file : this.resourceFolder.listFiles()) {
+			for(String prefix : prefixes) {
+				if(file.getName().startsWith(prefix)) {
+					files.add(file);
+					break;
+				}
+			}
+		}
+		
+		if(files.isEmpty()) {
+			return;
+		}
+		
+		files.sort(Comparator.comparing(File::getName));
+		
+		List<BufferedImage> images = new ArrayList<BufferedImage>();
+		long area = 0;
+		
+		for(File file : files) {
+			BufferedImage image = ImageIO.read(file);
+			
+			if(image == null) {
+				throw new IOException("Unsupported image: " + file);
+			}
+			
+			images.add(image);
+			area += (long) image.getWidth() * image.getHeight();
+		}
+		
+		Integer[] order = new Integer[images.size()];
+		int widest = 0;
+		
+		for(int i = 0; i < order.length; i++) {
+			order[i] = i;
+			widest = Math.max(widest, images.get(i).getWidth());
+		}
+		
+		Arrays.sort(order, Comparator.comparing((Integer i) -> images.get(i).getHeight()).reversed().thenComparing(i -> files.get(i).getName()));
+		
+		int shelfWidth = Math.max(widest, Math.min(MAX_WIDTH, (int) Math.ceil(Math.sqrt(area))));
+		int[][] positions = new int[images.size()][2];
+		int x = 0, y = 0, shelfHeight = 0, width = 0;
+		
+		for(int i : order) {
+			BufferedImage image = images.get(i);
+			
+			if(x + image.getWidth() > shelfWidth) {
+				x = 0;
+				y += shelfHeight;
+				shelfHeight = 0;
+			}
+			
+			positions[i][0] = x;
+			positions[i][1] = y;
+			
+			x += image.getWidth();
+			shelfHeight = Math.max(shelfHeight, image.getHeight());
+			width = Math.max(width, x);
+		}
+		
+		// The atlases are written as PNG so that the images are not compressed again, an atlas of
+		// opaque images (e.g. the cards, decoded from JPEG) does not need an alpha channel
+		boolean opaque = images.stream().allMatch(image -> image.getColorModel().getTransparency() == Transparency.OPAQUE);
+		BufferedImage atlas = new BufferedImage(width, y + shelfHeight, opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+		Graphics2D graphics = atlas.createGraphics();
+		graphics.setComposite(AlphaComposite.Src);
+		
+		for(int i = 0; i < images.size(); i++) {
+			BufferedImage image = images.get(i);
+			graphics.drawImage(image, positions[i][0], positions[i][1], null);
+			
+			this.index.put(files.get(i).getName(), atlasName + " " + positions[i][0] + " " + positions[i][1] + " " + image.getWidth() + " " + image.getHeight());
+		}
+		
+		graphics.dispose();
+		
+		this.outputFolder.mkdirs();
+		ImageIO.write(atlas, "png", new File(this.outputFolder, atlasName));
+		
+		System.out.println("Packed " + images.size() + " images in " + atlasName + " (" + atlas.getWidth() + "x" + atlas.getHeight() + ")");
+	}
+	
+	/**
+	 * Function used to write the index, one line for each image with its atlas, position and size
+	 */
+	public void writeIndex() throws IOException {
+		try(PrintWriter writer = new PrintWriter(new File(this.outputFolder, TextureAtlas.INDEX.substring(1)), StandardCharsets.ISO_8859_1)) {
+			writer.println("# Generated by game.AtlasBuilder: image = atlas x y width height");
+			
+			for(Map.Entry<String, String> entry : this.index.entrySet()) {
+				writer.println(entry.getKey() + " = " + entry.getValue());
+			}
+		}
+	}
+}
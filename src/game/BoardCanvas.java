@@ -0,0 +1,286 @@
+package game;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Graphics;
+import java.awt.Rectangle;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.JComponent;
+import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
+
+/**
+ * Board renderer that paints the whole Board in a single component from a scene of nodes: the
+ * cells and the bases are not added to the frame, they only keep the state of the Game and tell
+ * the canvas which of their areas changed. Only the changed areas are repainted, so a move
+ * does not repaint the whole Board. It is used when losttreasure.board-renderer is canvas
+ */
+public class BoardCanvas extends JComponent {
+	public static final String RENDERER_PROPERTY = "losttreasure.board-renderer";
+	
+	private static final long serialVersionUID = 1L;
+	
+	private final ScaledImage boardImage;
+	private final List<Node> nodes;
+	private final Map<Component, Node> componentNodes;
+	private final Map<Archeologist, Rectangle> archeologistBounds;
+	private final List<Rectangle> dirtyAreas;
+	private boolean flushScheduled;
+	
+	/**
+	 * Creates a new instance of BoardCanvas
+	 * @param boardImage Name of the image drawn under the cells
+	 */
+	public BoardCanvas(String boardImage) {
+		this.boardImage = new ScaledImage(boardImage);
+		this.nodes = new ArrayList<Node>();
+		this.componentNodes = new HashMap<Component, Node>();
+		this.archeologistBounds = new IdentityHashMap<Archeologist, Rectangle>();
+		this.dirtyAreas = new ArrayList<Rectangle>();
+		this.flushScheduled = false;
+		
+		this.setOpaque(true);
+		this.addMouseListener(new MouseAdapter() {
+			@Override
+			public void mouseClicked(MouseEvent e) {
+				BoardCanvas.this.click(e);
+			}
+		});
+	}
+	
+	/**
+	 * Function used to check whether the canvas renderer has been chosen
+	 * @return whether the Board has to be painted by a BoardCanvas
+	 */
+	public static boolean isRendererEnabled() {
+		return "canvas".equalsIgnoreCase(System.getProperty(RENDERER_PROPERTY));
+	}
+	
+	/**
+	 * Function used to add a Cell to the scene, the Cell has to be already sized and positioned
+	 * @param cell Cell of the Board
+	 */
+	public void addCell(Cell cell) {
+		this.addNode(new Node(cell, new Rectangle(cell.getBounds()), cell.getImage()));
+		cell.setCanvas(this);
+	}
+	
+	/**
+	 * Function used to add a Base to the scene
+	 * @param baseBounds Area of the Base on the Board
+	 * @param baseImage Name of the image of the Base
+	 * @param baseCenter Panel with the Base Cells of the Player, it is not displayed
+	 */
+	public void addBase(Rectangle baseBounds, String baseImage, JPanel baseCenter) {
+		this.addNode(new Node(null, baseBounds, new ScaledImage(baseImage)));
+		this.addNode(new Node(baseCenter, baseCenter.getBounds(), null));
+		
+		for(Component component : baseCenter.getComponents()) {
+			if(component instanceof CellBase) {
+				CellBase cellBase = (CellBase) component;
+				
+				Rectangle bounds = cellBase.getBounds();
+				bounds.translate(baseCenter.getX(), baseCenter.getY());
+				
+				this.addNode(new Node(cellBase, bounds, cellBase.getImage()));
+				cellBase.setCanvas(this);
+			}
+		}
+	}
+	
+	private synchronized void addNode(Node node) {
+		// The end cells overlap the cells around them, so they are painted after all the others
+		int index = this.nodes.size();
+		
+		if(!(node.component instanceof Cell && ((Cell) node.component).getType() == CellType.End)) {
+			while(index > 0 && this.nodes.get(index - 1).component instanceof Cell && ((Cell) this.nodes.get(index - 1).component).getType() == CellType.End) {
+				index--;
+			}
+		}
+		
+		this.nodes.add(index, node);
+		
+		if(node.component != null) {
+			this.componentNodes.put(node.component, node);
+		}
+	}
+	
+	/**
+	 * Function used to repaint the area of a Cell or a Base Cell after its Archeologists changed,
+	 * together with the areas the Archeologists were painted in before
+	 * @param component Cell or Base Cell that changed
+	 */
+	public void repaintNode(Component component) {
+		Node node;
+		
+		synchronized(this) {
+			node = this.componentNodes.get(component);
+		}
+		
+		if(node == null) {
+			return;
+		}
+		
+		this.markDirty(node.bounds);
+		
+		for(Component child : ((Container) component).getComponents()) {
+			Rectangle previous;
+			
+			synchronized(this) {
+				previous = this.archeologistBounds.get(child);
+			}
+			
+			if(previous != null && !node.bounds.contains(previous)) {
+				this.markDirty(previous);
+			}
+		}
+		
+		// The Archeologists that left the node are forgotten, their last area is repainted with the node
+		synchronized(this) {
+			this.archeologistBounds.entrySet().removeIf(entry -> entry.getKey().getParent() != component && node.bounds.contains(entry.getValue()));
+		}
+	}
+	
+	/**
+	 * Function used to add an area to the areas to repaint, the overlapping areas are merged and all
+	 * of them are handed to the RepaintManager at once from the Event Dispatch Thread
+	 * @param area Area of the canvas
+	 */
+	public void markDirty(Rectangle area) {
+		synchronized(this.dirtyAreas) {
+			Rectangle merged = new Rectangle(area);
+			
+			for(int i = this.dirtyAreas.size() - 1; i >= 0; i--) {
+				if(this.dirtyAreas.get(i).intersects(merged)) {
+					merged.add(this.dirtyAreas.remove(i));
+				}
+			}
+			
+			this.dirtyAreas.add(merged);
+			
+			if(!this.flushScheduled) {
+				this.flushScheduled = true;
+				SwingUtilities.invokeLater(this::flush);
+			}
+		}
+	}
+	
+	private void flush() {
+		List<Rectangle> areas;
+		
+		synchronized(this.dirtyAreas) {
+			areas = new ArrayList<Rectangle>(this.dirtyAreas);
+			this.dirtyAreas.clear();
+			this.flushScheduled = false;
+		}
+		
+		// The RepaintManager also paints the components drawn over the canvas, e.g. the dialogs
+		for(Rectangle area : areas) {
+			this.repaint(area);
+		}
+	}
+	
+	@Override
+	protected void paintComponent(Graphics g) {
+		Rectangle clip = g.getClipBounds();
+		
+		if(clip == null) {
+			clip = new Rectangle(0, 0, this.getWidth(), this.getHeight());
+		}
+		
+		g.drawImage(this.boardImage.getImage(this.getWidth(), this.getHeight()), 0, 0, null);
+		
+		List<Node> nodes;
+		
+		synchronized(this) {
+			nodes = new ArrayList<Node>(this.nodes);
+		}
+		
+		for(Node node : nodes) {
+			if(node.bounds.intersects(clip)) {
+				this.paintNode(g, node);
+			}
+		}
+	}
+	
+	private void paintNode(Graphics g, Node node) {
+		Rectangle bounds = node.bounds;
+		
+		if(node.component instanceof JPanel && node.component.isOpaque()) {
+			g.setColor(node.component.getBackground());
+			g.fillRect(bounds.x, bounds.y, bounds.width, bounds.height);
+		}
+		
+		if(node.image != null) {
+			g.drawImage(node.image.getImage(bounds.width, bounds.height), bounds.x, bounds.y, null);
+		}
+		
+		if(node.component instanceof JPanel && ((JPanel) node.component).getBorder() != null) {
+			((JPanel) node.component).getBorder().paintBorder(node.component, g, bounds.x, bounds.y, bounds.width, bounds.height);
+		}
+		
+		if(node.component instanceof Cell || node.component instanceof CellBase) {
+			for(Component child : ((Container) node.component).getComponents()) {
+				if(child instanceof Archeologist) {
+					Archeologist archeologist = (Archeologist) child;
+					
+					Rectangle archeologistArea = archeologist.getBounds();
+					archeologistArea.translate(bounds.x, bounds.y);
+					
+					BufferedImage image = archeologist.getIcon().getImage(archeologistArea.width, archeologistArea.height);
+					g.drawImage(image, archeologistArea.x, archeologistArea.y, null);
+					
+					synchronized(this) {
+						this.archeologistBounds.put(archeologist, archeologistArea);
+					}
+				}
+			}
+		}
+	}
+	
+	private void click(MouseEvent e) {
+		List<Node> nodes;
+		
+		synchronized(this) {
+			nodes = new ArrayList<Node>(this.nodes);
+		}
+		
+		// The nodes painted last are the ones on top
+		for(int i = nodes.size() - 1; i >= 0; i--) {
+			Node node = nodes.get(i);
+			
+			if(node.bounds.contains(e.getPoint())) {
+				if(node.component instanceof Cell) {
+					((Cell) node.component).mouseClicked(e);
+					return;
+				} else if(node.component instanceof CellBase) {
+					((CellBase) node.component).mouseClicked(e);
+					return;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Element of the scene, an area with an optional image and the component that keeps its state
+	 */
+	private static class Node {
+		private final Component component;
+		private final Rectangle bounds;
+		private final ScaledImage image;
+		
+		public Node(Component component, Rectangle bounds, ScaledImage image) {
+			this.component = component;
+			this.bounds = bounds;
+			this.image = image;
+		}
+	}
+}
@@ -7,17 +7,14 @@ import java.awt.Graphics;
 import java.awt.Point;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
-import java.awt.image.BufferedImage;
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 
-import javax.imageio.ImageIO;
 import javax.swing.BorderFactory;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.border.Border;
 
+import connection.ControllerExecutor;
 import connection.controllers.CardController;
 import connection.controllers.MessageController;
 
@@ -25,7 +22,7 @@ public class Card extends JPanel {
 	private Launcher launcher;
 	private Dimension cardDimension;
 	private Point cardPosition;
-	private BufferedImage cardImage;
+	private ScaledImage cardImage;
 	
 	private String card_value;
 	private int card_quantity;
@@ -40,12 +37,7 @@ public class Card extends JPanel {
 		this.card_value = card_value;
 		this.card_quantity = card_quantity;
 		
-		try {
-			InputStream stream = getClass().getResourceAsStream("/" + card_value + ".jpg");
-			this.cardImage = ImageIO.read(stream);
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		this.cardImage = new ScaledImage("/" + card_value + ".jpg");
 	
 		this.setupCard();
 	}
@@ -54,7 +46,7 @@ public class Card extends JPanel {
     public void paintComponent(Graphics g) {
         super.paintComponent(g);
         
-        g.drawImage(this.cardImage, 0, 0, this.getWidth(), this.getHeight(), null);
+        g.drawImage(this.cardImage.getImage(this.getWidth(), this.getHeight()), 0, 0, null);
     }
 	
 	public void setupCard() {
@@ -75,11 +67,11 @@ public class Card extends JPanel {
 					launcher.removeSelectedCards();
 					select();
 
-					cardController.sendSelect();
+					ControllerExecutor.runOrdered(cardController::sendSelect);
 				} else {
 					unselect();
 					
-					cardController.sendUnselect();
+					ControllerExecutor.runOrdered(cardController::sendUnselect);
 				}
 			}
 
@@ -13,18 +13,14 @@ import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.awt.geom.AffineTransform;
 import java.awt.image.AffineTransformOp;
-import java.awt.image.BufferedImage;
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Random;
 
-import javax.imageio.ImageIO;
 import javax.swing.BorderFactory;
-import javax.swing.ImageIcon;
 import javax.swing.JPanel;
 import javax.swing.border.Border;
 
+import connection.ControllerExecutor;
 import connection.controllers.MoveController;
 
 /**
@@ -59,7 +55,7 @@ public class Cell extends JPanel implements MouseListener  {
 	private final CellColor cellColor;
 	private final CellType cellType;
 	private final int cellIndex;
-	private BufferedImage cellImage;
+	private ScaledImage cellImage;
 	
 	private Dimension cellDimension;
 	private Point cellPosition;
@@ -67,6 +63,7 @@ public class Cell extends JPanel implements MouseListener  {
 	private int cellHeight = 46;
 	
 	private JPanel boardPanel;
+	private BoardCanvas boardCanvas;
 	
 	/**
 	 * Creates a new instance of Cell
@@ -134,12 +131,7 @@ public class Cell extends JPanel implements MouseListener  {
     		image_name = "jungle-tile" + String.valueOf(rnd.nextInt(5) + 1) + ".jpg";
 		}
 		
-		try {
-			InputStream stream = getClass().getResourceAsStream("/" + image_name);
-			this.cellImage = ImageIO.read(stream);
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		this.cellImage = new ScaledImage("/" + image_name);
 	}
 	
 	/**
@@ -168,7 +160,7 @@ public class Cell extends JPanel implements MouseListener  {
     public void paintComponent(Graphics g) {
         super.paintComponent(g);
         
-        g.drawImage(cellImage, 0, 0, this.getWidth(), this.getHeight(), null);
+        g.drawImage(cellImage.getImage(this.getWidth(), this.getHeight()), 0, 0, null);
     }
 	
 	/**
@@ -178,12 +170,30 @@ public class Cell extends JPanel implements MouseListener  {
 	 * @param boardPanel Panel used to display the cells
 	 */
 	public void setupCell(Dimension cellDimension, Point cellPosition, JPanel boardPanel) {
+		this.boardPanel = boardPanel;
+		this.setupBounds(cellDimension, cellPosition);
+		
+		boardPanel.add(this);
+	}
+	
+	/**
+	 * Creates a cell that is painted by a BoardCanvas instead of being added to the Board
+	 * @param cellDimension Size of the cell
+	 * @param cellPosition Coordinates of the cell
+	 * @param boardCanvas Canvas used to paint the Board
+	 */
+	public void setupCell(Dimension cellDimension, Point cellPosition, BoardCanvas boardCanvas) {
+		this.setupBounds(cellDimension, cellPosition);
+		
+		boardCanvas.addCell(this);
+	}
+	
+	private void setupBounds(Dimension cellDimension, Point cellPosition) {
 		this.cellWidth = cellDimension.width;
 		this.cellHeight = cellDimension.height;
 		
 		this.cellDimension = cellDimension;
 		this.cellPosition = cellPosition;
-		this.boardPanel = boardPanel;
 		
 		if(this.cellType == CellType.End) {
 			int cellPositionX, cellPositionY;
@@ -216,8 +226,6 @@ public class Cell extends JPanel implements MouseListener  {
 		this.setSize(this.cellDimension);
 		this.setLocation(this.cellPosition);
 		this.setVisible(true);
-		
-		boardPanel.add(this);
 	}
 	
 	/**
@@ -293,6 +301,10 @@ public class Cell extends JPanel implements MouseListener  {
 		}
 		
 		this.repaint();
+		
+		if(this.boardCanvas != null) {
+			this.boardCanvas.repaintNode(this);
+		}
 	}
 	
 	/**
@@ -334,6 +346,22 @@ public class Cell extends JPanel implements MouseListener  {
 		return archeologistCodes;
 	}
 	
+	/**
+	 * Function used to get the image of the cell, scaled to the size it is drawn at
+	 * @return image of the cell
+	 */
+	public ScaledImage getImage() {
+		return this.cellImage;
+	}
+	
+	/**
+	 * Function used to set the BoardCanvas that paints the cell, the cell then tells it which of its areas changed
+	 * @param boardCanvas Canvas of the Board, null when the cell paints itself
+	 */
+	public void setCanvas(BoardCanvas boardCanvas) {
+		this.boardCanvas = boardCanvas;
+	}
+	
 	/**
 	 * Function that returns the color of this cell
 	 * @return returns the color of this cell
@@ -360,7 +388,7 @@ public class Cell extends JPanel implements MouseListener  {
 		String cell_type = (this.cellType == CellType.Open || this.cellType == CellType.Star) ? "open" : "close";
 		
 		MoveController moveController = new MoveController(launcher, cell_index, cell_type);
-		moveController.sendMove();
+		ControllerExecutor.call(() -> moveController.sendMoveAsync(ControllerExecutor.EDT));
 	}
 
 	@Override
@@ -5,15 +5,12 @@ import java.awt.Graphics;
 import java.awt.Point;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
-import java.io.IOException;
-import java.io.InputStream;
 
-import javax.imageio.ImageIO;
 import javax.swing.BorderFactory;
-import javax.swing.ImageIcon;
 import javax.swing.JPanel;
 import javax.swing.border.Border;
 
+import connection.ControllerExecutor;
 import connection.controllers.MoveController;
 
 /**
@@ -25,7 +22,8 @@ public class CellBase extends JPanel implements MouseListener {
 	private final Dimension cellDimension;
 	private final Point cellPosition;
 	private final Archeologist cellArcheologist;
-	private ImageIcon cellImage;
+	private final ScaledImage cellImage;
+	private BoardCanvas boardCanvas;
 	
 	/**
 	 * Creates a new instance of CellBase
@@ -43,19 +41,14 @@ public class CellBase extends JPanel implements MouseListener {
 		this.setupCell();
 		this.addMouseListener(this);
 		
-		try {
-			InputStream stream = getClass().getResourceAsStream("/grass.jpg");
-			this.cellImage = new ImageIcon(ImageIO.read(stream));
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		this.cellImage = new ScaledImage("/grass.jpg");
 	}
 	
 	@Override
 	public void paintComponent(Graphics g) {
 		super.paintComponent(g);
 
-		g.drawImage(cellImage.getImage(), 0, 0, this.getWidth(), this.getHeight(), null);
+		g.drawImage(cellImage.getImage(this.getWidth(), this.getHeight()), 0, 0, null);
 	}
 	
 	/**
@@ -90,9 +83,29 @@ public class CellBase extends JPanel implements MouseListener {
 			this.cellArcheologist.drawArcheologist(archeologistDimension, archeologistCoord, archeologistOffset, this);
 			
 			this.repaint();
+			
+			if(this.boardCanvas != null) {
+				this.boardCanvas.repaintNode(this);
+			}
 		}
 	}
 	
+	/**
+	 * Function used to get the image of the base, scaled to the size it is drawn at
+	 * @return image of the base
+	 */
+	public ScaledImage getImage() {
+		return this.cellImage;
+	}
+	
+	/**
+	 * Function used to set the BoardCanvas that paints the base, the base then tells it which of its areas changed
+	 * @param boardCanvas Canvas of the Board, null when the base paints itself
+	 */
+	public void setCanvas(BoardCanvas boardCanvas) {
+		this.boardCanvas = boardCanvas;
+	}
+	
 	/**
 	 * Function used to manage the selection of a Archeologist
 	 * @param e MouseEvent object to manage the mouse click
@@ -100,7 +113,7 @@ public class CellBase extends JPanel implements MouseListener {
 	@Override
 	public void mouseClicked(MouseEvent e) {
 		MoveController moveController = new MoveController(launcher, this.cellIndex, "base");
-		moveController.sendMove();
+		ControllerExecutor.call(() -> moveController.sendMoveAsync(ControllerExecutor.EDT));
 	}
 
 	@Override
@@ -0,0 +1,11 @@
+package game;
+
+/**
+ * List of the Cell Types
+ */
+enum CellType {
+	Open,
+	Star,
+	Close,
+	End
+}
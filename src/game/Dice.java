@@ -8,6 +8,7 @@ import javax.swing.BorderFactory;
 import javax.swing.JPanel;
 import javax.swing.border.Border;
 
+import connection.ControllerExecutor;
 import connection.controllers.RollController;
 
 /**
@@ -119,7 +120,7 @@ public class Dice extends JPanel implements MouseListener {
 	public void mouseClicked(MouseEvent e) {
 		if(!this.diceRoll) {
 			RollController rollController = new RollController(launcher);
-			rollController.sendRoll();
+			ControllerExecutor.runOrdered(rollController::sendRoll);
 		}
 	}
 
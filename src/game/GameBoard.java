@@ -6,17 +6,13 @@ import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.GridLayout;
 import java.awt.Point;
+import java.awt.Rectangle;
 import java.awt.event.WindowEvent;
 import java.awt.event.WindowListener;
-import java.awt.image.BufferedImage;
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 
-import javax.imageio.ImageIO;
 import javax.swing.BorderFactory;
-import javax.swing.ImageIcon;
 import javax.swing.JFrame;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
@@ -86,7 +82,8 @@ public class GameBoard extends JPanel {
 	private final int frameOffsetX = 100;
 	private final int frameOffsetY = 50;
 	
-	private BufferedImage boardImage;
+	private ScaledImage boardImage;
+	private BoardCanvas boardCanvas;
 	
 	private final Launcher launcher;
 	private GameChat gameChat;
@@ -98,6 +95,7 @@ public class GameBoard extends JPanel {
 	 */
 	public GameBoard(Launcher launcher, Cell[] openCells, Cell[][] closeCells) {
 		this.launcher = launcher;
+		this.boardCanvas = BoardCanvas.isRendererEnabled() ? new BoardCanvas("/board.png") : null;
 		this.openCells = openCells;
 		this.closeCells = closeCells;
 		
@@ -126,7 +124,11 @@ public class GameBoard extends JPanel {
 			int positionY = frameOffsetY + openPositions[c][1] * cellHeight;
 			Point cellPosition = new Point(positionX, positionY);
 			
-			this.openCells[c].setupCell(cellDimension, cellPosition, this);
+			if(this.boardCanvas != null) {
+				this.openCells[c].setupCell(cellDimension, cellPosition, this.boardCanvas);
+			} else {
+				this.openCells[c].setupCell(cellDimension, cellPosition, this);
+			}
 		}
 		
 		for(int p = 0; p < closeCells.length; p++) {
@@ -138,16 +140,15 @@ public class GameBoard extends JPanel {
 				int positionY = frameOffsetY + closePositions[positionIndex][1] * cellHeight;
 				Point cellPosition = new Point(positionX, positionY);
 				
-				this.closeCells[p][c].setupCell(cellDimension, cellPosition, this);
+				if(this.boardCanvas != null) {
+					this.closeCells[p][c].setupCell(cellDimension, cellPosition, this.boardCanvas);
+				} else {
+					this.closeCells[p][c].setupCell(cellDimension, cellPosition, this);
+				}
 			}
 		}
 		
-		try {
-			InputStream stream = getClass().getResourceAsStream("/board.png");
-			this.boardImage = ImageIO.read(stream);
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		this.boardImage = new ScaledImage("/board.png");
 		
 		return this;
 	}
@@ -156,11 +157,21 @@ public class GameBoard extends JPanel {
 		this.players = players;
 		
 		for(int baseIndex = 0; baseIndex < 4; baseIndex++) {
-			this.add(this.setupBaseCenter(baseIndex));
-			this.add(this.setupBase(baseIndex));
+			if(this.boardCanvas != null) {
+				this.boardCanvas.addBase(this.getBaseBounds(baseIndex), "/base.png", this.setupBaseCenter(baseIndex));
+			} else {
+				this.add(this.setupBaseCenter(baseIndex));
+				this.add(this.setupBase(baseIndex));
+			}
 		}
 		
 		this.setupChat();
+		
+		// The canvas is added last so that the labels and the chat are displayed over it
+		if(this.boardCanvas != null) {
+			this.boardCanvas.setBounds(0, 0, this.getPreferredSize().width, this.getPreferredSize().height);
+			this.add(this.boardCanvas);
+		}
 		this.launcher.updateTurn(0);
 	}
 	
@@ -168,7 +179,9 @@ public class GameBoard extends JPanel {
     public void paintComponent(Graphics g) {
         super.paintComponent(g);
         
-        g.drawImage(boardImage, 0, 0, this.getWidth(), this.getHeight(), null);
+        if(this.boardCanvas == null) {
+        	g.drawImage(boardImage.getImage(this.getWidth(), this.getHeight()), 0, 0, null);
+        }
     }
 	
 	/**
@@ -177,36 +190,35 @@ public class GameBoard extends JPanel {
 	 * @return Base Panel of a certain Player to be displayed on the Board
 	 */
 	public JPanel setupBase(int baseIndex) {
+		ScaledImage baseImage = new ScaledImage("/base.png");
 		JPanel basePanel = new JPanel() {
 			@Override
 			public void paintComponent(Graphics g) {
 				super.paintComponent(g);
-
-				try {
-					InputStream stream = getClass().getResourceAsStream("/base.png");
-					ImageIcon image = new ImageIcon(ImageIO.read(stream));
-					g.drawImage(image.getImage(), 0, 0, this.getWidth(), this.getHeight(), null);
-				} catch (IOException e) {
-					e.printStackTrace();
-				}
-
+				
+				g.drawImage(baseImage.getImage(this.getWidth(), this.getHeight()), 0, 0, null);
 			}
 		};
 		
-		Dimension baseDimension = new Dimension(baseWidth, baseHeight);
-		
-		int positionX = frameOffsetX + basePositions[baseIndex][0] * cellWidth;
-		int positionY = frameOffsetY + basePositions[baseIndex][1] * cellHeight;
-		Point basePosition = new Point(positionX, positionY);
-		
-		basePanel.setSize(baseDimension);
-		basePanel.setLocation(basePosition);
+		basePanel.setBounds(this.getBaseBounds(baseIndex));
 		basePanel.setOpaque(true);
 		basePanel.setVisible(true);
 		
 		return basePanel;
 	}
 	
+	/**
+	 * Function that is used to get the area of the base of a player
+	 * @param baseIndex Index of the Player
+	 * @return Area of the Base on the Board
+	 */
+	public Rectangle getBaseBounds(int baseIndex) {
+		int positionX = frameOffsetX + basePositions[baseIndex][0] * cellWidth;
+		int positionY = frameOffsetY + basePositions[baseIndex][1] * cellHeight;
+		
+		return new Rectangle(positionX, positionY, baseWidth, baseHeight);
+	}
+	
 	/**
 	 * Function that is used to display the center of the base for each of the players
 	 * @param baseIndex Index of the Player
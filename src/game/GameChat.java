@@ -1,9 +1,6 @@
 
 package game;
 
-import java.awt.image.BufferedImage;
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -11,7 +8,6 @@ import java.awt.*;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 
-import javax.imageio.ImageIO;
 import javax.swing.BorderFactory;
 import javax.swing.JButton;
 import javax.swing.JEditorPane;
@@ -24,6 +20,7 @@ import javax.swing.SwingConstants;
 import javax.swing.border.Border;
 import javax.swing.text.*;
 
+import connection.ControllerExecutor;
 import connection.controllers.CardController;
 import connection.controllers.MessageController;
 
@@ -35,7 +32,7 @@ public class GameChat extends JPanel {
 	private JButton sendButton;
 	private JTextPane inputBox;
 	private JScrollPane inputPane;
-	private BufferedImage backgroundImage;
+	private ScaledImage backgroundImage;
 	private Color backgroundColor = Color.black;
 	
 	private Dimension chatDimension;
@@ -59,12 +56,7 @@ public class GameChat extends JPanel {
 		
 		this.card_list = new ArrayList<Card>();
 		
-		try {
-			InputStream stream = getClass().getResourceAsStream("/background-chat.png");
-			this.backgroundImage = ImageIO.read(stream);
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		this.backgroundImage = new ScaledImage("/background-chat.png");
 		
 		this.setupChat();
 	}
@@ -73,7 +65,7 @@ public class GameChat extends JPanel {
     public void paintComponent(Graphics g) {
         super.paintComponent(g);
         
-        g.drawImage(this.backgroundImage, 0, 0, this.getWidth(), this.getHeight(), null);
+        g.drawImage(this.backgroundImage.getImage(this.getWidth(), this.getHeight()), 0, 0, null);
     }
 	
 	public int getWidth() {
@@ -214,7 +206,7 @@ public class GameChat extends JPanel {
 			public void mouseClicked(MouseEvent e) {
 				if(!inputBox.getText().equals("")) {
 					MessageController messageController = new MessageController(launcher, inputBox.getText());
-					messageController.sendMessage();
+					ControllerExecutor.call(() -> messageController.sendMessageAsync(ControllerExecutor.EDT));
 				}
 			}
 
@@ -293,7 +285,7 @@ public class GameChat extends JPanel {
 		for(Card card : this.card_list) {
 			if(card.isSelected()) {
 				CardController cardController = new CardController(launcher, launcher.getUserToken(), launcher.getGameToken(), card.getValue());
-				cardController.sendUnselect();
+				ControllerExecutor.runOrdered(cardController::sendUnselect);
 				
 				card.unselect();
 			}
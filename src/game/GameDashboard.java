@@ -13,7 +13,6 @@ import java.awt.Graphics;
 import java.awt.event.ActionListener;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
-import java.io.InputStream;
 import java.awt.event.ActionEvent;
 import java.awt.Font;
 import javax.swing.JLabel;
@@ -25,11 +24,10 @@ import connection.controllers.CreateController;
 import connection.controllers.JoinController;
 
 import javax.swing.JTextField;
-import javax.imageio.ImageIO;
 import javax.swing.BorderFactory;
 import javax.swing.ImageIcon;
 
-public class GameDashboard extends JPanel {
+public class GameDashboard extends JPanel implements Releasable {
 	private Launcher launcher;
 	private Dimension panelDimension;
 	private final int MENU_HEIGHT = 60;
@@ -138,7 +136,7 @@ public class GameDashboard extends JPanel {
 	private void setupSettings() {
 		this.settingsButton = new JButton();
 		this.settingsButton.setBackground(Color.decode("#f7ec9c"));
-		this.settingsButton.setIcon(new ImageIcon(getClass().getResource("/settings.png")));
+		this.settingsButton.setIcon(ImageCache.getIcon("/settings.png"));
 		this.settingsButton.setSize(new Dimension(this.MENU_HEIGHT - 10, this.MENU_HEIGHT - 10));
 		this.settingsButton.setLocation(panelDimension.width - (settingsButton.getWidth() + 10) * 3, 5);
 		
@@ -154,7 +152,7 @@ public class GameDashboard extends JPanel {
 	private void setupLeaderboard() {
 		this.leaderboardButton = new JButton();
 		this.leaderboardButton.setBackground(Color.decode("#f7ec9c"));
-		this.leaderboardButton.setIcon(new ImageIcon(getClass().getResource("/leadership.png")));
+		this.leaderboardButton.setIcon(ImageCache.getIcon("/leadership.png"));
 		this.leaderboardButton.setSize(new Dimension(this.MENU_HEIGHT - 10, this.MENU_HEIGHT - 10));
 		this.leaderboardButton.setLocation(panelDimension.width - (leaderboardButton.getWidth() + 10) * 2, 5);
 		
@@ -170,7 +168,7 @@ public class GameDashboard extends JPanel {
 	private void setupHome() {
 		this.homeButton = new JButton();
 		this.homeButton.setBackground(Color.decode("#f7ec9c"));
-		this.homeButton.setIcon(new ImageIcon(getClass().getResource("/home.png")));
+		this.homeButton.setIcon(ImageCache.getIcon("/home.png"));
 		this.homeButton.setSize(new Dimension(this.MENU_HEIGHT - 10, this.MENU_HEIGHT - 10));
 		this.homeButton.setLocation(panelDimension.width - (homeButton.getWidth() + 10), 5);
 		
@@ -202,4 +200,12 @@ public class GameDashboard extends JPanel {
 	public void toggleInput() {
 		this.hasInput = true;
 	}
+	
+	/**
+	 * Function used to evict the images used only by the pages of the Dashboard
+	 */
+	@Override
+	public void release() {
+		this.gameLeaderboard.release();
+	}
 }
@@ -8,9 +8,7 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
-import java.io.InputStream;
 
-import javax.imageio.ImageIO;
 import javax.swing.BorderFactory;
 import javax.swing.JButton;
 import javax.swing.JLabel;
@@ -19,6 +17,7 @@ import javax.swing.JTextField;
 
 import org.springframework.messaging.simp.stomp.StompSession;
 
+import connection.ControllerExecutor;
 import connection.controllers.CreateController;
 import connection.controllers.JoinController;
 
@@ -43,8 +42,7 @@ public class GameHome extends JPanel {
 		this.menuHeight = menuHeight;
 		
 		try {
-			InputStream stream = getClass().getResourceAsStream("/menu-background.jpg");
-			this.backgroundImage = ImageIO.read(stream);
+			this.backgroundImage = ImageCache.getImage("/menu-background.jpg");
 		} catch (IOException e) {
 			e.printStackTrace();
 		}
@@ -82,12 +80,14 @@ public class GameHome extends JPanel {
 				String user_token = launcher.getUserToken();
 				
 				CreateController createController = new CreateController(launcher, connectionSession, user_token);
-				if(createController.sendCreate()) {
-					gameDashboard.toggleInput();
-				} else {
-					System.out.println("CREATE ERROR");
-					System.out.println("ERROR: " + createController.getError());
-				}
+				ControllerExecutor.call(() -> createController.sendCreateAsync(ControllerExecutor.EDT)).whenCompleteAsync((result, exception) -> {
+					if(exception == null) {
+						gameDashboard.toggleInput();
+					} else {
+						System.out.println("CREATE ERROR");
+						System.out.println("ERROR: " + createController.getError());
+					}
+				}, ControllerExecutor.EDT);
 			}
 		});
 		
@@ -136,12 +136,14 @@ public class GameHome extends JPanel {
 				
 				if(!game_token.equals("")) {
 					JoinController joinController = new JoinController(launcher, connectionSession, user_token, game_token);
-					if(joinController.sendJoin()) {
-						gameDashboard.toggleInput();
-					} else {
-						System.out.println("JOIN ERROR");
-						System.out.println("ERROR: " + joinController.getError());
-					}
+					ControllerExecutor.call(() -> joinController.sendJoinAsync(ControllerExecutor.EDT)).whenCompleteAsync((result, exception) -> {
+						if(exception == null) {
+							gameDashboard.toggleInput();
+						} else {
+							System.out.println("JOIN ERROR");
+							System.out.println("ERROR: " + joinController.getError());
+						}
+					}, ControllerExecutor.EDT);
 				}
 			}
 		});
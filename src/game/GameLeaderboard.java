@@ -10,12 +10,10 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URI;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
-import javax.imageio.ImageIO;
 import javax.swing.ImageIcon;
 import javax.swing.JButton;
 import javax.swing.JFormattedTextField;
@@ -23,10 +21,11 @@ import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.SwingConstants;
 
+import connection.ControllerExecutor;
 import connection.controllers.LeaderboardController;
 import connection.controllers.LoginController;
 
-public class GameLeaderboard extends JPanel {
+public class GameLeaderboard extends JPanel implements Releasable {
 	private final Launcher launcher;
 	private final GameDashboard gameDashboard;
 	private final Dimension panelDimension;
@@ -48,8 +47,7 @@ public class GameLeaderboard extends JPanel {
 		this.menuHeight = menuHeight;
 
 		try {
-			InputStream stream = getClass().getResourceAsStream("/menu-background.jpg");
-			this.backgroundImage = ImageIO.read(stream);
+			this.backgroundImage = ImageCache.getImage("/menu-background.jpg");
 		} catch (IOException e) {
 			e.printStackTrace();
 		}
@@ -87,7 +85,7 @@ public class GameLeaderboard extends JPanel {
 		this.refreshButton = new JButton("Refresh");
 		this.refreshButton.setToolTipText("Will refetch the leaderboard data from the server and update it.");
 		this.refreshButton.setBackground(Color.decode("#f7ec9c"));
-		this.refreshButton.setIcon(new ImageIcon(getClass().getResource("/refresh.png")));
+		this.refreshButton.setIcon(ImageCache.getIcon("/refresh.png"));
 		this.refreshButton.setSize(ENTRY_WIDTH / 2 - 5, 30);
 		this.refreshButton.setLocation(this.panelDimension.width / 2 + 5, 20);
 
@@ -105,7 +103,7 @@ public class GameLeaderboard extends JPanel {
 		this.websiteButton = new JButton("Open website");
 		this.websiteButton.setToolTipText("Opens Leaderboard webpage.");
 		this.websiteButton.setBackground(Color.decode("#f7ec9c"));
-		this.websiteButton.setIcon(new ImageIcon(getClass().getResource("/share.png")));
+		this.websiteButton.setIcon(ImageCache.getIcon("/share.png"));
 		this.websiteButton.setSize(ENTRY_WIDTH / 2 - 5, 30);
 		this.websiteButton.setLocation(this.panelDimension.width / 2 - ENTRY_WIDTH / 2, 20);
 
@@ -128,49 +126,66 @@ public class GameLeaderboard extends JPanel {
 	public void updateList() {	
 		LeaderboardController leaderboardController = new LeaderboardController(launcher, launcher.getUserToken());
 		
-		if(leaderboardController.sendUpdate()) {
-			int count = 1;
-			LinkedHashMap<String, Integer> list = leaderboardController.getList();
+		ControllerExecutor.call(() -> leaderboardController.sendUpdateAsync(ControllerExecutor.EDT)).whenCompleteAsync((list, exception) -> {
+			if(exception == null) {
+				this.showList(list);
+			} else {
+				System.out.println("LEADERBOARD ERROR");
+				System.out.println("ERROR: " + leaderboardController.getError());
+			}
+		}, ControllerExecutor.EDT);
+	}
+	
+	/**
+	 * Function used to display the entries of the Leaderboard
+	 * @param list Usernames and scores of the Leaderboard
+	 */
+	private void showList(LinkedHashMap<String, Integer> list) {
+		int count = 1;
+		
+		this.scoreContent.removeAll();
+		
+		for (Map.Entry<String, Integer> value : list.entrySet()) {
+			String username = value.getKey();
+			Integer score = value.getValue();
 			
-			this.scoreContent.removeAll();
+			JPanel listEntry = new JPanel();
+			listEntry.setLayout(null);
+			listEntry.setBackground(Color.decode("#f7ec9c"));
+			listEntry.setPreferredSize(new Dimension(this.ENTRY_WIDTH, this.ENTRY_HEIGHT));
+			listEntry.setSize(new Dimension(this.ENTRY_WIDTH, this.ENTRY_HEIGHT));
+			listEntry.setMinimumSize(new Dimension(this.ENTRY_WIDTH, this.ENTRY_HEIGHT));
 			
-			for (Map.Entry<String, Integer> value : list.entrySet()) {
-				String username = value.getKey();
-				Integer score = value.getValue();
-				
-				JPanel listEntry = new JPanel();
-				listEntry.setLayout(null);
-				listEntry.setBackground(Color.decode("#f7ec9c"));
-				listEntry.setPreferredSize(new Dimension(this.ENTRY_WIDTH, this.ENTRY_HEIGHT));
-				listEntry.setSize(new Dimension(this.ENTRY_WIDTH, this.ENTRY_HEIGHT));
-				listEntry.setMinimumSize(new Dimension(this.ENTRY_WIDTH, this.ENTRY_HEIGHT));
-				
-				JLabel usernameEntry = new JLabel(count + ". " + username);
-				usernameEntry.setFont(new Font("Tahoma", Font.BOLD, 14));
-				usernameEntry.setForeground(Color.BLACK);
-				usernameEntry.setPreferredSize(new Dimension(this.ENTRY_WIDTH / 2, this.ENTRY_HEIGHT));
-				usernameEntry.setSize(new Dimension(this.ENTRY_WIDTH / 2, this.ENTRY_HEIGHT));
-				usernameEntry.setLocation(10, 0);
-				
-				JLabel scoreEntry = new JLabel(Integer.toString(score));
-				scoreEntry.setFont(new Font("Tahoma", Font.BOLD, 14));
-				scoreEntry.setForeground(Color.BLACK);
-				scoreEntry.setPreferredSize(new Dimension(this.ENTRY_WIDTH / 2, this.ENTRY_HEIGHT));
-				scoreEntry.setSize(new Dimension(this.ENTRY_WIDTH / 2, this.ENTRY_HEIGHT));
-				scoreEntry.setLocation(this.ENTRY_WIDTH - 50, 0);
-				
-				listEntry.add(usernameEntry);
-				listEntry.add(scoreEntry);
-				
-				this.scoreContent.add(listEntry);
-				count++;
-			}
+			JLabel usernameEntry = new JLabel(count + ". " + username);
+			usernameEntry.setFont(new Font("Tahoma", Font.BOLD, 14));
+			usernameEntry.setForeground(Color.BLACK);
+			usernameEntry.setPreferredSize(new Dimension(this.ENTRY_WIDTH / 2, this.ENTRY_HEIGHT));
+			usernameEntry.setSize(new Dimension(this.ENTRY_WIDTH / 2, this.ENTRY_HEIGHT));
+			usernameEntry.setLocation(10, 0);
 			
-			this.scoreContent.revalidate();
-			this.scoreContent.repaint();
-		} else {
-			System.out.println("LEADERBOARD ERROR");
-			System.out.println("ERROR: " + leaderboardController.getError());
+			JLabel scoreEntry = new JLabel(Integer.toString(score));
+			scoreEntry.setFont(new Font("Tahoma", Font.BOLD, 14));
+			scoreEntry.setForeground(Color.BLACK);
+			scoreEntry.setPreferredSize(new Dimension(this.ENTRY_WIDTH / 2, this.ENTRY_HEIGHT));
+			scoreEntry.setSize(new Dimension(this.ENTRY_WIDTH / 2, this.ENTRY_HEIGHT));
+			scoreEntry.setLocation(this.ENTRY_WIDTH - 50, 0);
+			
+			listEntry.add(usernameEntry);
+			listEntry.add(scoreEntry);
+			
+			this.scoreContent.add(listEntry);
+			count++;
 		}
+		
+		this.scoreContent.revalidate();
+		this.scoreContent.repaint();
+	}
+	
+	/**
+	 * Function used to evict the refresh icon from the ImageCache, the only image that no other screen uses
+	 */
+	@Override
+	public void release() {
+		ImageCache.evict("/refresh.png");
 	}
 }
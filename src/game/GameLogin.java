@@ -10,9 +10,7 @@ import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
-import java.io.InputStream;
 
-import javax.imageio.ImageIO;
 import javax.swing.BorderFactory;
 import javax.swing.ImageIcon;
 import javax.swing.JButton;
@@ -25,6 +23,8 @@ import javax.swing.border.Border;
 
 import org.springframework.messaging.simp.stomp.StompSession;
 
+import connection.ControllerExecutor;
+import connection.ResponseException;
 import connection.controllers.LoginController;
 import connection.controllers.StartController;
 
@@ -54,8 +54,7 @@ public class GameLogin extends JPanel {
 		this.panelDimension = panelDimension;
 		
 		try {
-			InputStream stream = getClass().getResourceAsStream("/menu-background.jpg");
-			this.backgroundImage = ImageIO.read(stream);
+			this.backgroundImage = ImageCache.getImage("/menu-background.jpg");
 		} catch (IOException e) {
 			e.printStackTrace();
 		}
@@ -200,16 +199,20 @@ public class GameLogin extends JPanel {
 				String username = usernameField.getText();
 				String password = passwordField.getText();
 				
-				LoginController loginController = new LoginController(launcher.getSession(), username, password);
-				if(loginController.sendLogin()) {
-					launcher.setUserToken(loginController.getToken());
-					launcher.setUsername(loginController.getUsername());
-					
-					toggleInput();
-				} else {
-					System.out.println("LOGIN ERROR");
-					System.out.println("ERROR: " + loginController.getError());
-				}
+				ControllerExecutor.call(() -> {
+					LoginController loginController = new LoginController(launcher.awaitSession(), username, password);
+					return loginController.sendLoginAsync(ControllerExecutor.EDT);
+				}).whenCompleteAsync((loginController, exception) -> {
+					if(exception == null) {
+						launcher.setUserToken(loginController.getToken());
+						launcher.setUsername(loginController.getUsername());
+						
+						toggleInput();
+					} else {
+						System.out.println("LOGIN ERROR");
+						System.out.println("ERROR: " + ResponseException.getError(exception));
+					}
+				}, ControllerExecutor.EDT);
 			}
 		});
 		
@@ -17,10 +17,8 @@ import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 
-import javax.imageio.ImageIO;
 import javax.swing.BorderFactory;
 import javax.swing.Icon;
 import javax.swing.ImageIcon;
@@ -38,6 +36,7 @@ import javax.swing.event.ChangeListener;
 
 import org.springframework.messaging.simp.stomp.StompSession;
 
+import connection.ControllerExecutor;
 import connection.controllers.CreateController;
 import connection.controllers.StartController;
 
@@ -106,8 +105,7 @@ public class GameMenu extends JPanel {
 	
 	public void setupImages() {
 		try {
-        	InputStream stream = getClass().getResourceAsStream("/menu-background.jpg");
-			this.menuImage = new ImageIcon(ImageIO.read(stream));
+        	this.menuImage = new ImageIcon(ImageCache.getImage("/menu-background.jpg"));
 		} catch (IOException e) {
 			e.printStackTrace();
 		}
@@ -115,8 +113,7 @@ public class GameMenu extends JPanel {
         this.playersIcons = new ImageIcon[4];
         for(int i = 0; i < 4; i++) {
         	try {
-            	InputStream stream = getClass().getResourceAsStream("/user-" + this.playerNames[i] + ".png");
-            	this.playersIcons[i] = new ImageIcon(ImageIO.read(stream));
+            	this.playersIcons[i] = new ImageIcon(ImageCache.getImage("/user-" + this.playerNames[i] + ".png"));
     		} catch (IOException e) {
     			e.printStackTrace();
     		}
@@ -453,11 +450,13 @@ public class GameMenu extends JPanel {
 				String game_token = launcher.getGameToken();
 				
 				StartController startController = new StartController(launcher, connectionSession, user_token, game_token);
-				if(startController.sendStart()) {
-					System.out.println("START SUCCESS");
-				} else {
-					System.out.println("START ERROR");
-				}
+				ControllerExecutor.call(() -> startController.sendStartAsync(ControllerExecutor.EDT)).whenCompleteAsync((result, exception) -> {
+					if(exception == null) {
+						System.out.println("START SUCCESS");
+					} else {
+						System.out.println("START ERROR");
+					}
+				}, ControllerExecutor.EDT);
 			}
 			
 			@Override
@@ -553,8 +552,7 @@ public class GameMenu extends JPanel {
 		this.shareButton.setVisible(true);
 		
 		try {
-        	InputStream stream = getClass().getResourceAsStream("/share.png");
-        	ImageIcon shareImage = new ImageIcon(ImageIO.read(stream));
+        	ImageIcon shareImage = new ImageIcon(ImageCache.getImage("/share.png"));
         	this.shareButton.setIcon(shareImage);
 		} catch (IOException e) {
 			e.printStackTrace();
@@ -8,9 +8,7 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
-import java.io.InputStream;
 
-import javax.imageio.ImageIO;
 import javax.swing.BorderFactory;
 import javax.swing.JButton;
 import javax.swing.JFormattedTextField;
@@ -19,6 +17,7 @@ import javax.swing.JPanel;
 import javax.swing.JPasswordField;
 import javax.swing.JTextField;
 
+import connection.ControllerExecutor;
 import connection.controllers.LoginController;
 import connection.controllers.PasswordController;
 import connection.controllers.UsernameController;
@@ -57,8 +56,7 @@ public class GameSettings extends JPanel {
 		this.menuHeight = menuHeight;
 		
 		try {
-			InputStream stream = getClass().getResourceAsStream("/menu-background.jpg");
-			this.backgroundImage = ImageIO.read(stream);
+			this.backgroundImage = ImageCache.getImage("/menu-background.jpg");
 		} catch (IOException e) {
 			e.printStackTrace();
 		}
@@ -154,13 +152,15 @@ public class GameSettings extends JPanel {
 				String username = usernameField.getText();
 				
 				UsernameController usernameController = new UsernameController(launcher, username);
-				if(usernameController.sendUsername()) {
-					launcher.setUsername(usernameController.getUsername());
-					gameDashboard.runHome();
-				} else {
-					System.out.println("USERNAME ERROR");
-					System.out.println("ERROR: " + usernameController.getError());
-				}
+				ControllerExecutor.call(() -> usernameController.sendUsernameAsync(ControllerExecutor.EDT)).whenCompleteAsync((result, exception) -> {
+					if(exception == null) {
+						launcher.setUsername(usernameController.getUsername());
+						gameDashboard.runHome();
+					} else {
+						System.out.println("USERNAME ERROR");
+						System.out.println("ERROR: " + usernameController.getError());
+					}
+				}, ControllerExecutor.EDT);
 			}
 		});
 		
@@ -246,12 +246,14 @@ public class GameSettings extends JPanel {
 				
 				if(!password.isEmpty() && password.equals(password_confirm)) {
 					PasswordController passwordController = new PasswordController(launcher, password);
-					if(passwordController.sendPassword()) {
-						gameDashboard.runHome();
-					} else {
-						System.out.println("PASSWORD ERROR");
-						System.out.println("ERROR: " + passwordController.getError());
-					}
+					ControllerExecutor.call(() -> passwordController.sendPasswordAsync(ControllerExecutor.EDT)).whenCompleteAsync((result, exception) -> {
+						if(exception == null) {
+							gameDashboard.runHome();
+						} else {
+							System.out.println("PASSWORD ERROR");
+							System.out.println("ERROR: " + passwordController.getError());
+						}
+					}, ControllerExecutor.EDT);
 				}
 			}
 		});
@@ -0,0 +1,332 @@
+package game;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+
+/**
+ * Cache of the decoded images of the Game, keyed by resource name: every image is decoded once and
+ * then shared by all the components that use it. The memory of the cached images is accounted and
+ * the least recently used ones, except the atlases, are evicted once the budget (losttreasure.image-cache.size, in MB) is exceeded
+ */
+public final class ImageCache {
+	public static final String SIZE_PROPERTY = "losttreasure.image-cache.size";
+	
+	private static final LinkedHashMap<String, BufferedImage> images = new LinkedHashMap<String, BufferedImage>(64, 0.75f, true);
+	private static final HashMap<String, CompletableFuture<BufferedImage>> loading = new HashMap<String, CompletableFuture<BufferedImage>>();
+	private static final HashSet<String> pinned = new HashSet<String>();
+	
+	private static long budget = Long.getLong(SIZE_PROPERTY, 64) * 1024 * 1024;
+	private static long size = 0;
+	private static long hits = 0;
+	private static long misses = 0;
+	
+	private ImageCache() {}
+	
+	/**
+	 * Function used to get a decoded image, the image is decoded only the first time
+	 * @param name Name of the resource, e.g. /board.png
+	 * @return the decoded image, shared with the other users of the same resource
+	 * @throws IOException if the resource is missing or cannot be decoded
+	 */
+	public static BufferedImage getImage(String name) throws IOException {
+		TextureAtlas.Sprite sprite = TextureAtlas.getSprite(name);
+		
+		// The packed images are cut from their atlas, which is decoded once for all of them. The sprites
+		// share the pixels of the atlas, so the atlas is pinned: evicting it would not free its memory
+		if(sprite != null) {
+			synchronized(images) {
+				pinned.add(sprite.getAtlas());
+			}
+			
+			return ImageCache.load(name, () -> sprite.cut(ImageCache.getImage(sprite.getAtlas())));
+		}
+		
+		return ImageCache.load(name, () -> ImageCache.decode(name));
+	}
+	
+	/**
+	 * Function used to get an image scaled to a size and converted to the format of the screen,
+	 * every size is scaled once and shared with the other components drawn at the same size
+	 * @param name Name of the resource, e.g. /grass.jpg
+	 * @param width Width of the scaled image
+	 * @param height Height of the scaled image
+	 * @return the scaled image
+	 * @throws IOException if the resource is missing or cannot be decoded
+	 */
+	public static BufferedImage getScaledImage(String name, int width, int height) throws IOException {
+		return ImageCache.load(name + "@" + width + "x" + height, () -> ImageCache.scale(ImageCache.getImage(name), width, height));
+	}
+	
+	private static BufferedImage load(String key, ImageLoader loader) throws IOException {
+		CompletableFuture<BufferedImage> future;
+		boolean owner = false;
+		
+		synchronized(images) {
+			BufferedImage image = images.get(key);
+			
+			if(image != null) {
+				hits++;
+				return image;
+			}
+			
+			future = loading.get(key);
+			
+			if(future == null) {
+				future = new CompletableFuture<BufferedImage>();
+				loading.put(key, future);
+				
+				misses++;
+				owner = true;
+			}
+		}
+		
+		// The image is loaded outside the lock, the other threads asking for it wait for the same future
+		if(owner) {
+			try {
+				BufferedImage image = loader.load();
+				
+				synchronized(images) {
+					loading.remove(key);
+					ImageCache.put(key, image);
+				}
+				
+				future.complete(image);
+			} catch (IOException | RuntimeException e) {
+				synchronized(images) {
+					loading.remove(key);
+				}
+				
+				future.completeExceptionally(e);
+			}
+		}
+		
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if(e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			}
+			
+			throw e;
+		}
+	}
+	
+	/**
+	 * Function used to get a cached image as an icon
+	 * @param name Name of the resource, e.g. /refresh.png
+	 * @return icon of the image, empty if the image cannot be loaded
+	 */
+	public static ImageIcon getIcon(String name) {
+		try {
+			return new ImageIcon(ImageCache.getImage(name));
+		} catch (IOException e) {
+			e.printStackTrace();
+			return new ImageIcon();
+		}
+	}
+	
+	/**
+	 * Function used to remove an image from the cache, the components still using it keep their reference
+	 * @param name Name of the resource
+	 */
+	public static void evict(String name) {
+		synchronized(images) {
+			Iterator<Map.Entry<String, BufferedImage>> iterator = images.entrySet().iterator();
+			
+			// The scaled copies of the image are evicted with it
+			while(iterator.hasNext()) {
+				Map.Entry<String, BufferedImage> entry = iterator.next();
+				
+				if(entry.getKey().equals(name) || entry.getKey().startsWith(name + "@")) {
+					size -= ImageCache.getSize(entry.getValue());
+					iterator.remove();
+				}
+			}
+		}
+	}
+	
+	public static void clear() {
+		synchronized(images) {
+			images.clear();
+			pinned.clear();
+			size = 0;
+		}
+	}
+	
+	/**
+	 * Function used to set the memory budget of the cache, the images over the budget are evicted
+	 * @param budget Budget in bytes
+	 */
+	public static void setBudget(long budget) {
+		synchronized(images) {
+			ImageCache.budget = budget;
+			ImageCache.evict();
+		}
+	}
+	
+	/**
+	 * Function used to get the memory used by the cached images
+	 * @return estimated size of the decoded pixels, in bytes
+	 */
+	public static long getSize() {
+		synchronized(images) {
+			return size;
+		}
+	}
+	
+	public static long getHits() {
+		synchronized(images) {
+			return hits;
+		}
+	}
+	
+	public static long getMisses() {
+		synchronized(images) {
+			return misses;
+		}
+	}
+	
+	/**
+	 * Function used to get the memory charged to an image, the sprites cut from an atlas share
+	 * the pixels of the atlas, which is pinned and charged once for all of them
+	 * @param image Cached image
+	 * @return estimated size of the decoded pixels, in bytes
+	 */
+	public static long getSize(BufferedImage image) {
+		if(image.getRaster().getParent() != null) {
+			return 0;
+		}
+		
+		return (long) image.getWidth() * image.getHeight() * Math.max(1, image.getColorModel().getPixelSize() / 8);
+	}
+	
+	/**
+	 * Function used to check whether an image is read from the AssetPack, directly or through its atlas
+	 * @param name Name of the resource, e.g. /board.png
+	 * @return true if the image does not have to be decoded
+	 */
+	static boolean isMapped(String name) {
+		AssetPack pack = AssetPack.getDefault();
+		
+		if(pack == null) {
+			return false;
+		}
+		
+		TextureAtlas.Sprite sprite = TextureAtlas.getSprite(name);
+		return pack.contains(sprite != null ? sprite.getAtlas() : name);
+	}
+	
+	private static BufferedImage decode(String name) throws IOException {
+		PaintGuard.checkIO(name);
+		
+		AssetPack pack = AssetPack.getDefault();
+		
+		// The images of the pack are already decoded, they are mapped and copied to a standard image the
+		// first time they are used, because drawing straight from the mapped raster takes the slow generic
+		// path of Java2D: the AssetPreloader leaves them out, so the pack is not copied as a whole at startup
+		if(pack != null && pack.contains(name)) {
+			return ImageCache.copy(pack.getImage(name));
+		}
+		
+		InputStream stream = ImageCache.class.getResourceAsStream(name);
+		
+		if(stream == null) {
+			throw new IOException("Missing image: " + name);
+		}
+		
+		try(stream) {
+			BufferedImage image = ImageIO.read(stream);
+			
+			if(image == null) {
+				throw new IOException("Unsupported image: " + name);
+			}
+			
+			return image;
+		}
+	}
+	
+	private static BufferedImage copy(BufferedImage image) {
+		boolean opaque = image.getColorModel().getTransparency() == Transparency.OPAQUE;
+		BufferedImage copy = new BufferedImage(image.getWidth(), image.getHeight(), opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+		
+		// The samples are copied as they are, without compositing, so the copy is exact
+		copy.getRaster().setRect(image.getRaster());
+		
+		return copy;
+	}
+	
+	private static BufferedImage scale(BufferedImage image, int width, int height) {
+		int transparency = image.getColorModel().getTransparency();
+		BufferedImage scaled;
+		
+		if(GraphicsEnvironment.isHeadless()) {
+			scaled = new BufferedImage(width, height, transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+		} else {
+			scaled = ImageCache.getConfiguration().createCompatibleImage(width, height, transparency);
+		}
+		
+		Graphics2D graphics = scaled.createGraphics();
+		graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+		graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+		graphics.drawImage(image, 0, 0, width, height, null);
+		graphics.dispose();
+		
+		return scaled;
+	}
+	
+	private static GraphicsConfiguration getConfiguration() {
+		return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+	}
+	
+	private static void put(String name, BufferedImage image) {
+		BufferedImage previous = images.put(name, image);
+		
+		if(previous != null) {
+			size -= ImageCache.getSize(previous);
+		}
+		
+		size += ImageCache.getSize(image);
+		ImageCache.evict();
+	}
+	
+	private static void evict() {
+		Iterator<Map.Entry<String, BufferedImage>> iterator = images.entrySet().iterator();
+		
+		// The most recently used image is always kept, even if it is larger than the budget
+		while(size > budget && iterator.hasNext()) {
+			Map.Entry<String, BufferedImage> entry = iterator.next();
+			
+			if(!iterator.hasNext()) {
+				break;
+			}
+			
+			if(pinned.contains(entry.getKey())) {
+				continue;
+			}
+			
+			size -= ImageCache.getSize(entry.getValue());
+			iterator.remove();
+		}
+	}
+	
+	@FunctionalInterface
+	private interface ImageLoader {
+		BufferedImage load() throws IOException;
+	}
+}
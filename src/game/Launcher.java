@@ -4,8 +4,12 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Random;
 import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.awt.BorderLayout;
+import java.awt.Color;
 import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.Graphics;
@@ -16,10 +20,8 @@ import java.awt.event.WindowEvent;
 import java.awt.event.WindowListener;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
-import java.io.InputStream;
 import java.lang.reflect.Type;
 
-import javax.imageio.ImageIO;
 import javax.swing.BoxLayout;
 import javax.swing.ImageIcon;
 import javax.swing.JFrame;
@@ -33,13 +35,18 @@ import org.springframework.messaging.simp.stomp.StompHeaders;
 import org.springframework.messaging.simp.stomp.StompSession;
 import org.springframework.messaging.simp.stomp.StompSession.Subscription;
 import org.springframework.messaging.simp.stomp.StompSessionHandler;
+import org.springframework.web.socket.WebSocketHttpHeaders;
 import org.springframework.web.socket.client.WebSocketClient;
 import org.springframework.web.socket.client.standard.StandardWebSocketClient;
 import org.springframework.web.socket.messaging.WebSocketStompClient;
 
 import connection.ConnectionSessionHandler;
+import connection.ReconnectingSession;
 import connection.Request;
 import connection.Response;
+import connection.RttMonitor;
+import connection.Transport;
+import connection.WebSocketTransport;
 import connection.controllers.LoginController;
 import connection.controllers.QuitController;
 import connection.controllers.UpdateController;
@@ -55,16 +62,6 @@ enum CellColor {
 	White
 };
 
-/**
- * List of the Cell Types
- */
-enum CellType {
-	Open,
-	Star,
-	Close,
-	End
-};
-
 /**
  * Class used to run the Game
  */
@@ -89,14 +86,19 @@ public class Launcher extends JFrame {
 	private Player[] players;
 	private String[] playerNames;
 	
-	private JPanel gameLoading;
+	private volatile JPanel gameLoading;
 	private BufferedImage loadingImage;
+	private volatile int loadedAssets;
+	private volatile int totalAssets;
 	
 	private GameLogin gameLogin;
 	private GameDashboard gameDashboard;
-	private GameMenu gameMenu;
+	private volatile GameMenu gameMenu;
 	private GameBoard gameBoard;
 	
+	private ScreenManager screens;
+	private CompletableFuture<StompSession> connectionReady;
+	
 	private String user_token;
 	private String user_name;
 	private LinkedHashMap<String, Integer> user_cards;
@@ -115,19 +117,7 @@ public class Launcher extends JFrame {
 	public Launcher() {	
 		this.setupFrame();
 		this.runLoading();
-		
-		try {
-			this.setupConnection("ws://localhost:8080/ws-connect");
-		} catch(Exception e) {
-			System.out.println("Connection error: " + e.getMessage());
-		}
-		
-		this.setupCells();
-		
-		this.gameLogin = new GameLogin(this, new Dimension(this.WIDTH, this.HEIGHT));
-		this.gameDashboard = new GameDashboard(this, new Dimension(this.WIDTH, this.HEIGHT));
-		this.gameMenu = new GameMenu(this, new Dimension(this.WIDTH, this.HEIGHT));
-		this.gameBoard = new GameBoard(this, this.openCells, this.closeCells);
+		this.runStartup();
 		
 		this.runLogin();
 		this.runDashboard();
@@ -148,18 +138,27 @@ public class Launcher extends JFrame {
 	 * @param URL of the Server
 	 */
 	public void setupConnection(String URL) throws InterruptedException, ExecutionException {
-		WebSocketClient client = new StandardWebSocketClient();
-		this.connectionClient = new WebSocketStompClient(client);
-		this.connectionClient.setMessageConverter(new StringMessageConverter());
-
+		WebSocketTransport transport = new WebSocketTransport(URL);
+		this.connectionClient = transport.getClient();
+		
+		this.setupConnection(transport);
+	}
+	
+	/**
+	 * Setup the connection to the Server
+	 * @param transport Transport used to reach the Server, e.g. a LoopbackTransport in the load tests
+	 */
+	public void setupConnection(Transport transport) throws InterruptedException, ExecutionException {
 		StompSessionHandler sessionHandler = new ConnectionSessionHandler();
-		this.connectionSession = this.connectionClient.connect(URL, sessionHandler).get();
+		ReconnectingSession session = new ReconnectingSession(transport, sessionHandler);
+		this.connectionSession = session.connect().get();
+		
+		RttMonitor.getMonitor(this.connectionSession).start();
 	}
 	
 	public void runLoading() {
 		try {
-			InputStream stream = getClass().getResourceAsStream("/background-loading.png");
-			this.loadingImage = ImageIO.read(stream);
+			this.loadingImage = ImageCache.getImage("/background-loading.png");
 		} catch (IOException e) {
 			e.printStackTrace();
 		}
@@ -170,6 +169,16 @@ public class Launcher extends JFrame {
 		        super.paintComponent(g);
 		        
 		        g.drawImage(loadingImage, 0, 0, this.getWidth(), this.getHeight(), null);
+		        
+		        if(totalAssets > 0) {
+		        	int barWidth = this.getWidth() / 2;
+		        	int barX = (this.getWidth() - barWidth) / 2;
+		        	int barY = this.getHeight() - 40;
+		        	
+		        	g.setColor(Color.WHITE);
+		        	g.drawRect(barX, barY, barWidth, 10);
+		        	g.fillRect(barX, barY, barWidth * loadedAssets / totalAssets, 10);
+		        }
 		    }
 		};
 		
@@ -182,20 +191,88 @@ public class Launcher extends JFrame {
 		this.pack();
 		this.centerScreen();
 		this.setVisible(true);
+		
+		// The preloader keeps decoding in the background after the loading screen is removed
+		new AssetPreloader().start((loaded, total) -> {
+			this.loadedAssets = loaded;
+			this.totalAssets = total;
+			
+			JPanel gameLoading = this.gameLoading;
+			
+			if(gameLoading != null) {
+				gameLoading.repaint();
+			}
+		});
+	}
+	
+	/**
+	 * Function used to start the connection while the Login is built, the other screens are
+	 * only built when they are about to be needed
+	 */
+	public void runStartup() {
+		ExecutorService startup = Executors.newCachedThreadPool(runnable -> {
+			Thread thread = new Thread(runnable, "startup");
+			thread.setDaemon(true);
+			return thread;
+		});
+		
+		Dimension screenDimension = new Dimension(this.WIDTH, this.HEIGHT);
+		
+		this.screens = new ScreenManager(startup);
+		this.screens.register("login", () -> new GameLogin(this, screenDimension));
+		this.screens.register("dashboard", () -> new GameDashboard(this, screenDimension));
+		this.screens.register("menu", () -> new GameMenu(this, screenDimension));
+		this.screens.register("board", () -> {
+			this.setupCells();
+			return new GameBoard(this, this.openCells, this.closeCells);
+		});
+		
+		this.connectionReady = CompletableFuture.supplyAsync(() -> {
+			try {
+				this.setupConnection("ws://localhost:8080/ws-connect");
+			} catch(Exception e) {
+				System.out.println("Connection error: " + e.getMessage());
+			}
+			
+			return this.connectionSession;
+		}, startup);
+		
+		// The loading screen stays up only until the Login and its background are ready, the
+		// images of the other screens are still decoded by the preloader in the meantime
+		this.gameLogin = this.screens.get("login");
+	}
+	
+	/**
+	 * Function used to wait until the connection to the Server is ready
+	 * @return session connected to the Server, null if the connection failed
+	 */
+	public StompSession awaitSession() {
+		return this.connectionReady.join();
 	}
 	
 	public void runLogin() {
 		this.remove(this.gameLoading);
+		this.gameLoading = null;
+		this.loadingImage = null;
+		
 		this.add(this.gameLogin);
 		
 		this.pack();
 		this.setVisible(true);
 		
+		this.screens.prepare("dashboard");
+		this.screens.prepare("menu");
+		
 		this.gameLogin.waitLogin();
 	}
 	
 	public void runDashboard() {
+		this.gameDashboard = this.screens.get("dashboard");
+		this.gameMenu = this.screens.get("menu");
+		
 		this.remove(this.gameLogin);
+		this.screens.release("login");
+		this.gameLogin = null;
 		this.gameDashboard.setUsername(this.getUsername());
 		this.add(this.gameDashboard);
 		
@@ -210,11 +287,16 @@ public class Launcher extends JFrame {
 	 */
 	public void runMenu() {
 		this.remove(this.gameDashboard);
+		this.screens.release("dashboard");
+		this.gameDashboard = null;
+		
 		this.add(this.gameMenu);
 		
 		this.pack();
 		this.setVisible(true);
 		
+		this.screens.prepare("board");
+		
 		this.gameMenu.waitMenu();
 		this.playerNames = this.gameMenu.getPlayers();
 		this.nPlayers = this.playerNames.length;
@@ -224,10 +306,15 @@ public class Launcher extends JFrame {
 	 * Function used to display the Board of the Game
 	 */
 	public void runGame() {
+		this.gameBoard = this.screens.get("board");
+		
 		this.setupPlayers();
 		this.gameBoard.startGame(this.players);
 
 		this.remove(this.gameMenu);
+		this.screens.release("menu");
+		this.gameMenu = null;
+		
 		this.add(this.gameBoard, BorderLayout.CENTER);
 		
 		this.user_cards = new LinkedHashMap<String, Integer>();
@@ -247,8 +334,10 @@ public class Launcher extends JFrame {
 		this.setResizable(false);                              
 		this.setLocationRelativeTo(null);
 		
+		PaintGuard.install();
+		
 		try {
-			BufferedImage image = ImageIO.read(getClass().getResource("/icon.jpg"));
+			BufferedImage image = ImageCache.getImage("/icon.jpg");
 			this.setIconImage(image);
 		} catch (IOException e) {
 		    e.printStackTrace();
@@ -375,7 +464,7 @@ public class Launcher extends JFrame {
 	public void setUsername(String user_name) {
 		this.user_name = user_name;
 		
-		this.gameDashboard.setUsername(user_name);
+		this.screens.<GameDashboard>ifLoaded("dashboard", gameDashboard -> gameDashboard.setUsername(user_name));
 	}
 	
 	public void setGameToken(String game_token) {
@@ -411,25 +500,39 @@ public class Launcher extends JFrame {
 		this.setGameSize(game_size);
 		this.setGamePlayers(game_players);
 		
+		if(response_list.containsKey("user_index")) {
+			this.user_index = Integer.parseInt(response_list.get("user_index"));
+		}
+		
+		// The Menu is released once the Game has started
+		GameMenu gameMenu = this.gameMenu;
+		if(gameMenu == null) {
+			return;
+		}
+		
 		if(response_list.containsKey("user_host")) {
 			String user_host = response_list.get("user_host");
 			if(!user_host.equals(this.getUserToken())) {
-				this.gameMenu.disableButton();
+				gameMenu.disableButton();
 			}
 		}
 		
-		if(response_list.containsKey("user_index")) {
-			this.user_index = Integer.parseInt(response_list.get("user_index"));
-		}
-		
-		this.gameMenu.updateList(game_token, game_size, game_players);
+		gameMenu.updateList(game_token, game_size, game_players);
 	}
 	
 	public void startGame(HashMap<String, String> response_list) {
+		if(this.updateController != null) {
+			this.updateController.close();
+		}
+		
 		this.updateController = new UpdateController(this, this.connectionSession, this.getUserToken());
 		
 		this.updateList(response_list);
-		this.gameMenu.startGame();
+		
+		GameMenu gameMenu = this.gameMenu;
+		if(gameMenu != null) {
+			gameMenu.startGame();
+		}
 	}
 	
 	public void updateTurn(int turn_index) {
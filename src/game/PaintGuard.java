@@ -0,0 +1,65 @@
+package game;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.swing.JComponent;
+import javax.swing.RepaintManager;
+import javax.swing.SwingUtilities;
+
+/**
+ * RepaintManager that marks the time spent painting the dirty regions, so that an image decoded
+ * while painting is reported: the images have to be prepared before they are painted. The components
+ * painted with paintImmediately skip the RepaintManager, so they are found on the stack of the reader
+ */
+public class PaintGuard extends RepaintManager {
+	/** Logger of the rendering diagnostics, kept apart from the log of the connection */
+	static final Logger logger = Logger.getLogger("game.rendering");
+	
+	private static final AtomicLong violations = new AtomicLong();
+	private static final StackWalker walker = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+	
+	private static volatile boolean painting = false;
+	
+	/**
+	 * Function used to install the guard as the RepaintManager of the interface
+	 */
+	public static void install() {
+		SwingUtilities.invokeLater(() -> RepaintManager.setCurrentManager(new PaintGuard()));
+	}
+	
+	@Override
+	public void paintDirtyRegions() {
+		painting = true;
+		
+		try {
+			super.paintDirtyRegions();
+		} finally {
+			painting = false;
+		}
+	}
+	
+	/**
+	 * Function used to report an I/O operation if it is done while painting
+	 * @param resource Resource that is being read
+	 */
+	public static void checkIO(String resource) {
+		if(!SwingUtilities.isEventDispatchThread()) {
+			return;
+		}
+		
+		if(painting || PaintGuard.isPaintingImmediately()) {
+			violations.incrementAndGet();
+			logger.log(Level.WARNING, resource + " read while painting", new IllegalStateException("Image not prepared before painting: " + resource));
+		}
+	}
+	
+	private static boolean isPaintingImmediately() {
+		return walker.walk(frames -> frames.anyMatch(frame -> frame.getMethodName().equals("paintImmediately") && JComponent.class.isAssignableFrom(frame.getDeclaringClass())));
+	}
+	
+	public static long getViolations() {
+		return violations.get();
+	}
+}
@@ -6,11 +6,9 @@ import java.awt.Graphics;
 import java.awt.Point;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Random;
 
-import javax.imageio.ImageIO;
 import javax.swing.BorderFactory;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
@@ -193,8 +191,7 @@ public class Player {
 	public void setupLabelCurrent(Dimension labelDimension) {
 		if(this.playerName.equals(this.launcher.getUsername())) {
 			try {
-				InputStream stream = getClass().getResourceAsStream("/player.png");
-				BufferedImage currentImage = ImageIO.read(stream);
+				BufferedImage currentImage = ImageCache.getImage("/player.png");
 				
 				this.playerLabelCurrent = new JPanel() {
 					@Override
@@ -0,0 +1,11 @@
+package game;
+
+/**
+ * Screen that holds resources, e.g. images, to free when the ScreenManager releases it
+ */
+public interface Releasable {
+	/**
+	 * Function used to free the resources of the screen
+	 */
+	void release();
+}
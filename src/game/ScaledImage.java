@@ -0,0 +1,60 @@
+package game;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.logging.Level;
+
+/**
+ * Image of a component kept at the size it is drawn, so that painting does not scale the source
+ * image every time: a new copy is requested from the ImageCache only when the size changes
+ */
+public class ScaledImage {
+	private final String name;
+	
+	private BufferedImage image;
+	private int width;
+	private int height;
+	
+	/**
+	 * Creates a new instance of ScaledImage, the source image is decoded here and not while painting
+	 * @param name Name of the resource, e.g. /grass.jpg
+	 */
+	public ScaledImage(String name) {
+		this.name = name;
+		this.image = null;
+		
+		try {
+			ImageCache.getImage(name);
+		} catch (IOException e) {
+			PaintGuard.logger.log(Level.WARNING, "cannot load " + name, e);
+		}
+	}
+	
+	/**
+	 * Function used to get the image scaled to the size of the component
+	 * @param width Width of the component
+	 * @param height Height of the component
+	 * @return the scaled image, null if the image cannot be loaded
+	 */
+	public BufferedImage getImage(int width, int height) {
+		if(width <= 0 || height <= 0) {
+			return null;
+		}
+		
+		if(this.image == null || this.width != width || this.height != height) {
+			try {
+				this.image = ImageCache.getScaledImage(this.name, width, height);
+				this.width = width;
+				this.height = height;
+			} catch (IOException e) {
+				return null;
+			}
+		}
+		
+		return this.image;
+	}
+	
+	public String getName() {
+		return this.name;
+	}
+}
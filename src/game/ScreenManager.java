@@ -0,0 +1,131 @@
+package game;
+
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javax.swing.JPanel;
+
+/**
+ * Lifecycle of the screens of the Game: every screen is built the first time it is needed (or
+ * prepared in the background just before) and released once it is not used anymore, together
+ * with its children and its images
+ */
+public class ScreenManager {
+	private final Executor executor;
+	private final HashMap<String, Supplier<? extends JPanel>> factories;
+	private final HashMap<String, CompletableFuture<JPanel>> screens;
+	
+	/**
+	 * Creates a new instance of ScreenManager
+	 * @param executor Executor where the screens are prepared in the background
+	 */
+	public ScreenManager(Executor executor) {
+		this.executor = executor;
+		this.factories = new HashMap<String, Supplier<? extends JPanel>>();
+		this.screens = new HashMap<String, CompletableFuture<JPanel>>();
+	}
+	
+	/**
+	 * Function used to add a screen, it is not built yet
+	 * @param name Name of the screen
+	 * @param factory Function that builds the screen
+	 */
+	public synchronized void register(String name, Supplier<? extends JPanel> factory) {
+		this.factories.put(name, factory);
+	}
+	
+	/**
+	 * Function used to start building a screen in the background, if it is not built yet
+	 * @param name Name of the screen
+	 */
+	public synchronized void prepare(String name) {
+		if(!this.screens.containsKey(name)) {
+			Supplier<? extends JPanel> factory = this.getFactory(name);
+			this.screens.put(name, CompletableFuture.supplyAsync(factory::get, this.executor));
+		}
+	}
+	
+	/**
+	 * Function used to get a screen, it is built now if it has not been prepared
+	 * @param name Name of the screen
+	 * @return the screen
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends JPanel> T get(String name) {
+		CompletableFuture<JPanel> screen;
+		Supplier<? extends JPanel> factory = null;
+		
+		synchronized(this) {
+			screen = this.screens.get(name);
+			
+			if(screen == null) {
+				factory = this.getFactory(name);
+				screen = new CompletableFuture<JPanel>();
+				this.screens.put(name, screen);
+			}
+		}
+		
+		// The screen is built outside the lock so that the other screens can still be prepared
+		if(factory != null) {
+			try {
+				screen.complete(factory.get());
+			} catch (RuntimeException e) {
+				screen.completeExceptionally(e);
+			}
+		}
+		
+		return (T) screen.join();
+	}
+	
+	/**
+	 * Function used to apply an action to a screen once it is built, nothing is done if the screen
+	 * has not been requested or if it has been released
+	 * @param name Name of the screen
+	 * @param action Action to apply
+	 */
+	@SuppressWarnings("unchecked")
+	public synchronized <T extends JPanel> void ifLoaded(String name, Consumer<T> action) {
+		CompletableFuture<JPanel> screen = this.screens.get(name);
+		
+		if(screen != null) {
+			screen.thenAccept(panel -> action.accept((T) panel));
+		}
+	}
+	
+	/**
+	 * Function used to release a screen, it will be built again if it is needed later
+	 * @param name Name of the screen
+	 */
+	public void release(String name) {
+		CompletableFuture<JPanel> screen;
+		
+		synchronized(this) {
+			screen = this.screens.remove(name);
+		}
+		
+		if(screen != null) {
+			screen.thenAccept(ScreenManager::dispose);
+		}
+	}
+	
+	private Supplier<? extends JPanel> getFactory(String name) {
+		Supplier<? extends JPanel> factory = this.factories.get(name);
+		
+		if(factory == null) {
+			throw new IllegalArgumentException("Unknown screen: " + name);
+		}
+		
+		return factory;
+	}
+	
+	private static void dispose(JPanel screen) {
+		if(screen instanceof Releasable) {
+			((Releasable) screen).release();
+		}
+		
+		screen.removeAll();
+	}
+}
@@ -0,0 +1,93 @@
+package game;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Index of the sprites packed by the AtlasBuilder during the build: the tiles, the pieces and the
+ * cards are read from a few atlas images instead of one file each. Without the index (e.g. when the
+ * Game is run before the build) the loose files are used
+ */
+public final class TextureAtlas {
+	public static final String INDEX = "/atlas.properties";
+	
+	private static final Map<String, Sprite> sprites = TextureAtlas.loadIndex();
+	
+	private TextureAtlas() {}
+	
+	/**
+	 * Function used to find the sprite that replaces a resource
+	 * @param name Name of the resource, e.g. /grass.jpg
+	 * @return the sprite of the resource, null if it is not packed in an atlas
+	 */
+	public static Sprite getSprite(String name) {
+		return sprites.get(name);
+	}
+	
+	public static boolean isPacked(String name) {
+		return sprites.containsKey(name);
+	}
+	
+	private static Map<String, Sprite> loadIndex() {
+		Map<String, Sprite> sprites = new HashMap<String, Sprite>();
+		InputStream stream = TextureAtlas.class.getResourceAsStream(INDEX);
+		
+		if(stream == null) {
+			return sprites;
+		}
+		
+		try(stream) {
+			Properties index = new Properties();
+			index.load(stream);
+			
+			for(String name : index.stringPropertyNames()) {
+				String[] values = index.getProperty(name).trim().split("\\s+");
+				
+				sprites.put("/" + name, new Sprite("/" + values[0],
+					Integer.parseInt(values[1]), Integer.parseInt(values[2]),
+					Integer.parseInt(values[3]), Integer.parseInt(values[4])));
+			}
+		} catch (IOException | RuntimeException e) {
+			System.out.println("Invalid texture atlas index, using the loose images: " + e.getMessage());
+			sprites.clear();
+		}
+		
+		return sprites;
+	}
+	
+	/**
+	 * Position of a resource inside its atlas
+	 */
+	public static class Sprite {
+		private final String atlas;
+		private final int x;
+		private final int y;
+		private final int width;
+		private final int height;
+		
+		public Sprite(String atlas, int x, int y, int width, int height) {
+			this.atlas = atlas;
+			this.x = x;
+			this.y = y;
+			this.width = width;
+			this.height = height;
+		}
+		
+		public String getAtlas() {
+			return this.atlas;
+		}
+		
+		/**
+		 * Function used to cut the sprite from its atlas, the sprite shares the pixels of the atlas
+		 * @param atlasImage Decoded atlas image
+		 * @return image of the sprite
+		 */
+		public BufferedImage cut(BufferedImage atlasImage) {
+			return atlasImage.getSubimage(this.x, this.y, this.width, this.height);
+		}
+	}
+}